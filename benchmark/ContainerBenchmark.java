@@ -0,0 +1,265 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga para comparar os contêineres embarcados
+ *
+ * Envia POST /api/password/validate com uma mistura fixa de senhas (válidas e
+ * inválidas, sempre na mesma ordem) a partir de N conexões keep-alive HTTP/1.1,
+ * uma virtual thread por conexão. Há dois modos:
+ *
+ * - laço fechado (padrão, --rate 0): cada conexão envia a próxima requisição assim
+ *   que recebe a resposta; mede a vazão máxima;
+ * - laço aberto (--rate R): as requisições têm horários marcados a R por segundo e
+ *   a latência é contada a partir do horário marcado, não do envio, para que um
+ *   servidor lento não esconda a fila que ele mesmo criou (coordinated omission).
+ *
+ * Depois do aquecimento (--warmup) as latências de cada requisição são guardadas
+ * por --duration e ordenadas no fim, então os percentis são exatos. Com --pid, a
+ * memória residente do servidor (VmRSS e o pico VmHWM de /proc) é lida antes e
+ * depois da carga. O resultado vai para a saída e, com --out, é anexado a um CSV.
+ *
+ * Uso: java benchmark/ContainerBenchmark.java --label tomcat --url http://localhost:8080 [opções]
+ */
+public class ContainerBenchmark {
+
+    private static final String VALIDATE_PATH = "/api/password/validate";
+
+    private static final String[] PASSWORDS = {
+        "AbTp9!fok", "Xq7#LmP2v", "aa", "AbTp9 fok", "AbTp9!foA", "abtp9!fok",
+        "ABTP9!FOK", "AbTpx!fok", "AbTp9ifok", "Kd8$wRz3nQ", "Nv4%tYb6sH", "AbTp9!fuk"
+    };
+
+    private static final String CSV_HEADER =
+        "label,connections,rate,duration_s,requests,errors,throughput_rps,p50_us,p90_us,p99_us,p999_us,max_us,"
+            + "rss_idle_mb,rss_loaded_mb,rss_peak_mb";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String label = options.getOrDefault("label", "servidor");
+        URI uri = URI.create(options.getOrDefault("url", "http://localhost:8080")).resolve(VALIDATE_PATH);
+        int connections = Integer.parseInt(options.getOrDefault("connections", "64"));
+        int rate = Integer.parseInt(options.getOrDefault("rate", "0"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        String pid = options.get("pid");
+        String out = options.get("out");
+
+        byte[][] bodies = new byte[PASSWORDS.length][];
+        for (int i = 0; i < PASSWORDS.length; i++) {
+            bodies[i] = ("{\"password\":\"" + PASSWORDS[i] + "\"}").getBytes(StandardCharsets.UTF_8);
+        }
+
+        long rssIdle = readStatusKb(pid, "VmRSS:");
+        Worker[] workers = new Worker[connections];
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            long start = System.nanoTime();
+            long measureFrom = start + warmup.toNanos();
+            long end = measureFrom + duration.toNanos();
+            // No laço aberto cada conexão atende um horário marcado a cada connections/rate segundos
+            long intervalNanos = rate > 0 ? 1_000_000_000L * connections / rate : 0;
+
+            CountDownLatch finished = new CountDownLatch(connections);
+            for (int i = 0; i < connections; i++) {
+                Worker worker = new Worker(client, uri, bodies, i, measureFrom, end,
+                    start + (rate > 0 ? 1_000_000_000L * i / rate : 0), intervalNanos);
+                workers[i] = worker;
+                Thread.ofVirtual().name("benchmark-", i).start(() -> {
+                    try {
+                        worker.run();
+                    } finally {
+                        finished.countDown();
+                    }
+                });
+            }
+            finished.await();
+        }
+        long rssLoaded = readStatusKb(pid, "VmRSS:");
+        long rssPeak = readStatusKb(pid, "VmHWM:");
+
+        int total = 0;
+        long errors = 0;
+        for (Worker worker : workers) {
+            total += worker.count;
+            errors += worker.errors;
+        }
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (Worker worker : workers) {
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            offset += worker.count;
+        }
+        Arrays.sort(latencies);
+
+        double seconds = duration.toNanos() / 1e9;
+        String csv = String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%d,%.0f,%d,%d,%d,%d,%d,%s,%s,%s",
+            label, connections, rate, duration.toSeconds(), total, errors, total / seconds,
+            micros(percentile(latencies, 0.50)), micros(percentile(latencies, 0.90)),
+            micros(percentile(latencies, 0.99)), micros(percentile(latencies, 0.999)),
+            micros(total > 0 ? latencies[total - 1] : 0),
+            megabytes(rssIdle), megabytes(rssLoaded), megabytes(rssPeak));
+
+        System.out.printf(Locale.ROOT, "%s: %.0f req/s, %d erros, p50 %d µs, p99 %d µs, p99.9 %d µs, máx %d µs, "
+                + "RSS %s -> %s MB (pico %s MB)%n",
+            label, total / seconds, errors, micros(percentile(latencies, 0.50)),
+            micros(percentile(latencies, 0.99)), micros(percentile(latencies, 0.999)),
+            micros(total > 0 ? latencies[total - 1] : 0), megabytes(rssIdle), megabytes(rssLoaded),
+            megabytes(rssPeak));
+        if (out != null) {
+            appendCsv(Path.of(out), csv);
+        }
+    }
+
+    /**
+     * Uma conexão: envia requisições em sequência e guarda as latências da janela medida
+     */
+    private static final class Worker {
+
+        private final HttpClient client;
+        private final URI uri;
+        private final byte[][] bodies;
+        private final long measureFrom;
+        private final long end;
+        private final long intervalNanos;
+        private long scheduled;
+        private int next;
+
+        private long[] latencies = new long[1 << 16];
+        private int count;
+        private long errors;
+
+        private Worker(HttpClient client, URI uri, byte[][] bodies, int index, long measureFrom, long end,
+                       long firstScheduled, long intervalNanos) {
+            this.client = client;
+            this.uri = uri;
+            this.bodies = bodies;
+            this.next = index % bodies.length;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            this.scheduled = firstScheduled;
+            this.intervalNanos = intervalNanos;
+        }
+
+        private void run() {
+            while (true) {
+                long sentAt;
+                if (intervalNanos > 0) {
+                    long wait = scheduled - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    sentAt = scheduled;
+                    scheduled += intervalNanos;
+                } else {
+                    sentAt = System.nanoTime();
+                }
+                if (sentAt >= end) {
+                    return;
+                }
+
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(bodies[next]))
+                    .build();
+                next = next + 1 == bodies.length ? 0 : next + 1;
+                boolean failed;
+                try {
+                    // A API responde 200 tanto para senhas válidas quanto para inválidas
+                    failed = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200;
+                } catch (IOException e) {
+                    failed = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long latency = System.nanoTime() - sentAt;
+
+                if (sentAt >= measureFrom) {
+                    if (failed) {
+                        errors++;
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = latency;
+                }
+            }
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Opção inválida: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1_000;
+    }
+
+    private static String megabytes(long kilobytes) {
+        return kilobytes < 0 ? "" : String.format(Locale.ROOT, "%.1f", kilobytes / 1024.0);
+    }
+
+    /**
+     * Lê um campo de /proc/[pid]/status em kB; -1 sem --pid ou fora do Linux
+     */
+    private static long readStatusKb(String pid, String field) {
+        if (pid == null) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", pid, "status"))) {
+                if (line.startsWith(field)) {
+                    return Long.parseLong(line.substring(field.length()).replace("kB", "").strip());
+                }
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+        return -1;
+    }
+
+    private static void appendCsv(Path out, String line) {
+        try {
+            List<String> lines = new ArrayList<>(2);
+            if (Files.notExists(out) || Files.size(out) == 0) {
+                lines.add(CSV_HEADER);
+            }
+            lines.add(line);
+            Files.write(out, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar " + out, e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+#!/usr/bin/env bash
+#
+# Compara Tomcat, Jetty e Undertow servindo POST /api/password/validate
+#
+# Para cada contêiner: empacota o demo com o perfil Maven correspondente, sobe o
+# jar com as mesmas opções de JVM, espera a readiness (fim do aquecimento do JIT),
+# roda o ContainerBenchmark e encerra o servidor. Os resultados são anexados a
+# benchmark/target/results-<data>.csv e impressos em tabela no final.
+#
+# Variáveis (com os padrões):
+#   CONTAINERS="tomcat jetty undertow"  contêineres comparados, na ordem
+#   CONNECTIONS=64      conexões keep-alive simultâneas
+#   RATE=0              requisições por segundo; 0 = laço fechado (vazão máxima)
+#   WARMUP=10           segundos de carga descartados antes da medição
+#   DURATION=30         segundos medidos
+#   PORT=18080          porta do servidor
+#   SERVER_JAVA_OPTS="-Xmx512m"
+#   SERVER_CPUS / CLIENT_CPUS  listas de CPUs para taskset (ex.: 0-3 e 4-7), se disponível
+#   MAVEN_ARGS          argumentos extras do Maven
+#
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+CONTAINERS="${CONTAINERS:-tomcat jetty undertow}"
+CONNECTIONS="${CONNECTIONS:-64}"
+RATE="${RATE:-0}"
+WARMUP="${WARMUP:-10}"
+DURATION="${DURATION:-30}"
+PORT="${PORT:-18080}"
+SERVER_JAVA_OPTS="${SERVER_JAVA_OPTS:--Xmx512m}"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+OUT_DIR="$ROOT/benchmark/target"
+RESULTS="$OUT_DIR/results-$(date +%Y%m%d-%H%M%S).csv"
+
+# Prefixo taskset da lista de CPUs, se houver; o exec do taskset mantém o pid do java
+pin() {
+    if [[ -n "$1" ]] && command -v taskset > /dev/null; then
+        echo "taskset -c $1"
+    fi
+}
+
+server_pid=""
+stop_server() {
+    if [[ -n "$server_pid" ]]; then
+        kill "$server_pid" 2> /dev/null || true
+        wait "$server_pid" 2> /dev/null || true
+        server_pid=""
+    fi
+}
+trap stop_server EXIT
+
+mkdir -p "$OUT_DIR"
+
+for container in $CONTAINERS; do
+    echo "==> $container: empacotando"
+    # clean: um jar já empacotado não é refeito só porque o perfil mudou
+    # shellcheck disable=SC2086
+    "$ROOT/mvnw" -B -q -f "$ROOT/pom.xml" -P"$container" -pl demo -am clean package -DskipTests ${MAVEN_ARGS:-}
+    jar="$OUT_DIR/demo-$container.jar"
+    cp "$ROOT"/demo/target/demo-*-SNAPSHOT.jar "$jar"
+
+    if curl -s -o /dev/null "http://localhost:$PORT/"; then
+        echo "Porta $PORT já está em uso; encerre o processo ou defina PORT" >&2
+        exit 1
+    fi
+    echo "==> $container: iniciando na porta $PORT"
+    # Auditoria desligada para que o fsync dos segmentos não entre na comparação
+    # shellcheck disable=SC2086
+    $(pin "${SERVER_CPUS:-}") "$JAVA" $SERVER_JAVA_OPTS -jar "$jar" \
+        --server.port="$PORT" \
+        --password.audit.enabled=false \
+        --logging.level.root=WARN \
+        > "$OUT_DIR/server-$container.log" 2>&1 &
+    server_pid=$!
+
+    ready=""
+    for _ in $(seq 1 120); do
+        if curl -fs "http://localhost:$PORT/actuator/health/readiness" > /dev/null; then
+            ready=1
+            break
+        fi
+        if ! kill -0 "$server_pid" 2> /dev/null; then
+            break
+        fi
+        sleep 1
+    done
+    if [[ -z "$ready" ]]; then
+        echo "Servidor $container não ficou pronto; veja $OUT_DIR/server-$container.log" >&2
+        exit 1
+    fi
+
+    echo "==> $container: medindo ($CONNECTIONS conexões, ${WARMUP}s de aquecimento, ${DURATION}s medidos)"
+    $(pin "${CLIENT_CPUS:-}") "$JAVA" "$ROOT/benchmark/ContainerBenchmark.java" \
+        --label "$container" \
+        --url "http://localhost:$PORT" \
+        --connections "$CONNECTIONS" \
+        --rate "$RATE" \
+        --warmup "$WARMUP" \
+        --duration "$DURATION" \
+        --pid "$server_pid" \
+        --out "$RESULTS"
+
+    stop_server
+done
+
+echo
+if command -v column > /dev/null; then
+    column -s, -t < "$RESULTS"
+else
+    cat "$RESULTS"
+fi
+echo
+echo "Resultados em $RESULTS"
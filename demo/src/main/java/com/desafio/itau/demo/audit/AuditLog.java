@@ -0,0 +1,26 @@
+package com.desafio.itau.demo.audit;
+
+/**
+ * Trilha de auditoria dos eventos de validação
+ * Cada evento guarda instante, cliente, código do resultado e versão da política, nunca a senha
+ */
+public interface AuditLog extends AutoCloseable {
+
+    /**
+     * Auditoria desligada (password.audit.enabled=false)
+     */
+    AuditLog DISABLED = (clientAddress, outcomeCode) -> false;
+
+    /**
+     * Registra um evento de validação sem bloquear a thread chamadora
+     *
+     * @param clientAddress endereço IP literal do cliente
+     * @param outcomeCode código do resultado (ver PasswordValidationResponse.getCode)
+     * @return false se o evento foi descartado (fila cheia ou auditoria encerrada)
+     */
+    boolean record(String clientAddress, int outcomeCode);
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,123 @@
+package com.desafio.itau.demo.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Auditoria assíncrona em arquivos append-only
+ *
+ * As threads de requisição apenas publicam registros de tamanho fixo no
+ * {@link AuditRingBuffer}, sem locks nem I/O; se a fila estiver cheia o
+ * registro é descartado e contado. Uma única thread de escrita drena a fila
+ * em lotes, grava cada lote com uma chamada ao FileChannel e um fsync (group
+ * commit) e rotaciona os segmentos por tamanho e idade.
+ */
+@Slf4j
+public class AuditLogImpl implements AuditLog {
+
+    private static final int BATCH_RECORDS = 4096;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final AuditRingBuffer ringBuffer;
+    private final AuditSegmentWriter segmentWriter;
+    private final int policyVersion;
+    private final long flushIntervalNanos;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+    private volatile long written;
+
+    public AuditLogImpl(Path directory, int bufferCapacity, long maxSegmentBytes, Duration maxSegmentAge,
+                        Duration flushInterval, boolean fsync, int policyVersion) throws IOException {
+        this.ringBuffer = new AuditRingBuffer(bufferCapacity);
+        this.segmentWriter = new AuditSegmentWriter(directory, maxSegmentBytes, maxSegmentAge.toMillis(), fsync);
+        this.policyVersion = policyVersion;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.writerThread = new Thread(this::writeLoop, "password-audit-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        log.info("Auditoria de validações em {} (fila de {} registros, fsync={})", directory, bufferCapacity, fsync);
+    }
+
+    @Override
+    public boolean record(String clientAddress, int outcomeCode) {
+        if (running && ringBuffer.offer(System.currentTimeMillis(), AuditRecord.clientHigh(clientAddress),
+                AuditRecord.clientLow(clientAddress), outcomeCode, policyVersion)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * Registros descartados por fila cheia ou falha de escrita
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getWrittenCount() {
+        return written;
+    }
+
+    public int getPendingCount() {
+        return ringBuffer.size();
+    }
+
+    /**
+     * Para de aceitar registros, grava os pendentes e fecha o segmento atual
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            log.warn("Auditoria não terminou de gravar os registros pendentes em {} s", SHUTDOWN_TIMEOUT.toSeconds());
+        }
+    }
+
+    private void writeLoop() {
+        ByteBuffer batch = ByteBuffer.allocateDirect(BATCH_RECORDS * AuditRecord.SIZE);
+        while (true) {
+            boolean stopping = !running;
+            batch.clear();
+            int count = ringBuffer.drainTo(batch, BATCH_RECORDS);
+            long now = System.currentTimeMillis();
+            try {
+                if (count > 0) {
+                    batch.flip();
+                    segmentWriter.append(batch, now);
+                    written += count;
+                    continue;
+                }
+                segmentWriter.rotateIfExpired(now);
+            } catch (IOException e) {
+                dropped.add(count);
+                log.error("Falha ao gravar {} registros de auditoria", count, e);
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+            }
+            if (stopping) {
+                break;
+            }
+            LockSupport.parkNanos(flushIntervalNanos);
+        }
+        try {
+            segmentWriter.close();
+        } catch (IOException e) {
+            log.error("Falha ao fechar o segmento de auditoria", e);
+        }
+    }
+}
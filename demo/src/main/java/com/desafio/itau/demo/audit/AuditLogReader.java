@@ -0,0 +1,118 @@
+package com.desafio.itau.demo.audit;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Leitura e exportação dos segmentos de auditoria
+ *
+ * Também pode ser executado de forma independente da aplicação, exportando os
+ * registros em CSV para a saída padrão:
+ * <pre>
+ * java -cp demo.jar -Dloader.main=com.desafio.itau.demo.audit.AuditLogReader \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher audit/
+ * </pre>
+ * Um registro incompleto no fim do segmento (queda durante a escrita) é ignorado.
+ */
+public final class AuditLogReader {
+
+    static final String CSV_HEADER = "timestamp,client,outcome_code,policy_version";
+
+    private static final int READ_BUFFER_RECORDS = 2048;
+
+    private AuditLogReader() {
+    }
+
+    /**
+     * Segmentos de um diretório em ordem cronológica
+     */
+    public static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.startsWith(AuditSegmentWriter.SEGMENT_PREFIX)
+                        && name.endsWith(AuditSegmentWriter.SEGMENT_SUFFIX);
+                })
+                .sorted()
+                .toList();
+        }
+    }
+
+    /**
+     * Entrega os registros de um segmento, na ordem em que foram gravados
+     */
+    public static void read(Path segment, Consumer<AuditRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(AuditRecord.HEADER_SIZE);
+            if (!readFully(channel, header)) {
+                return;
+            }
+            header.flip();
+            if (header.getInt() != AuditRecord.MAGIC || header.getShort() != AuditRecord.FORMAT_VERSION
+                    || header.getShort() != AuditRecord.SIZE) {
+                throw new IOException("Arquivo não é um segmento de auditoria suportado: " + segment);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_RECORDS * AuditRecord.SIZE);
+            while (channel.read(buffer) > 0 || buffer.position() >= AuditRecord.SIZE) {
+                buffer.flip();
+                while (buffer.remaining() >= AuditRecord.SIZE) {
+                    consumer.accept(AuditRecord.read(buffer));
+                }
+                buffer.compact();
+            }
+        }
+    }
+
+    public static List<AuditRecord> readAll(Path segment) throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        read(segment, records::add);
+        return records;
+    }
+
+    /**
+     * Exporta em CSV os segmentos informados (arquivos ou diretórios)
+     */
+    public static void export(List<Path> paths, PrintStream out) throws IOException {
+        out.println(CSV_HEADER);
+        for (Path path : paths) {
+            for (Path segment : Files.isDirectory(path) ? segments(path) : List.of(path)) {
+                read(segment, record -> out.println(record.getTimestamp() + "," + record.getClientAddress()
+                    + "," + record.getOutcomeCode() + "," + record.getPolicyVersion()));
+            }
+        }
+        out.flush();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Uso: AuditLogReader <diretório|segmento>...");
+            System.exit(2);
+        }
+        List<Path> paths = new ArrayList<>();
+        for (String arg : args) {
+            paths.add(Path.of(arg));
+        }
+        export(paths, new PrintStream(System.out, false, StandardCharsets.UTF_8));
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
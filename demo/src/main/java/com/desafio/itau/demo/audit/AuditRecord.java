@@ -0,0 +1,154 @@
+package com.desafio.itau.demo.audit;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * Registro de auditoria e seu formato binário
+ *
+ * Segmento: cabeçalho de 8 bytes (magic "PVAU", versão do formato e tamanho do
+ * registro) seguido de registros de 32 bytes, big-endian:
+ * <pre>
+ *  0  long  instante (epoch millis)
+ *  8  16 B  endereço do cliente (IPv6; IPv4 mapeado em ::ffff:a.b.c.d)
+ * 24  int   código do resultado
+ * 28  int   versão da política
+ * </pre>
+ */
+public final class AuditRecord {
+
+    public static final int SIZE = 32;
+
+    static final int MAGIC = 0x50564155;
+    static final short FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 8;
+
+    private static final long IPV4_MAPPED_PREFIX = 0x0000FFFF00000000L;
+
+    private final long timestampMillis;
+    private final long clientHigh;
+    private final long clientLow;
+    private final int outcomeCode;
+    private final int policyVersion;
+
+    AuditRecord(long timestampMillis, long clientHigh, long clientLow, int outcomeCode, int policyVersion) {
+        this.timestampMillis = timestampMillis;
+        this.clientHigh = clientHigh;
+        this.clientLow = clientLow;
+        this.outcomeCode = outcomeCode;
+        this.policyVersion = policyVersion;
+    }
+
+    public Instant getTimestamp() {
+        return Instant.ofEpochMilli(timestampMillis);
+    }
+
+    /**
+     * @return endereço do cliente (IPv4 quando mapeado), ou vazio se não foi informado
+     */
+    public String getClientAddress() {
+        if (clientHigh == 0 && clientLow == 0) {
+            return "";
+        }
+        byte[] address = ByteBuffer.allocate(16).putLong(clientHigh).putLong(clientLow).array();
+        try {
+            return InetAddress.getByAddress(address).getHostAddress();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int getOutcomeCode() {
+        return outcomeCode;
+    }
+
+    public int getPolicyVersion() {
+        return policyVersion;
+    }
+
+    @Override
+    public String toString() {
+        return "AuditRecord(timestamp=" + getTimestamp() + ", client=" + getClientAddress()
+            + ", outcomeCode=" + outcomeCode + ", policyVersion=" + policyVersion + ")";
+    }
+
+    static void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC).putShort(FORMAT_VERSION).putShort((short) SIZE);
+    }
+
+    static void write(ByteBuffer buffer, long timestampMillis, long clientHigh, long clientLow,
+                      int outcomeCode, int policyVersion) {
+        buffer.putLong(timestampMillis).putLong(clientHigh).putLong(clientLow)
+            .putInt(outcomeCode).putInt(policyVersion);
+    }
+
+    static AuditRecord read(ByteBuffer buffer) {
+        return new AuditRecord(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getInt(), buffer.getInt());
+    }
+
+    /**
+     * Metade alta do endereço de 16 bytes
+     * Só interpreta IPs literais, então nunca consulta o DNS na thread da requisição
+     */
+    static long clientHigh(String address) {
+        if (address == null || address.indexOf(':') < 0) {
+            return 0;
+        }
+        byte[] bytes = ipv6Bytes(address);
+        return bytes == null ? 0 : ByteBuffer.wrap(bytes).getLong(0);
+    }
+
+    /**
+     * Metade baixa do endereço de 16 bytes
+     */
+    static long clientLow(String address) {
+        if (address == null) {
+            return 0;
+        }
+        if (address.indexOf(':') < 0) {
+            long ipv4 = parseIpv4(address);
+            return ipv4 < 0 ? 0 : IPV4_MAPPED_PREFIX | ipv4;
+        }
+        byte[] bytes = ipv6Bytes(address);
+        return bytes == null ? 0 : ByteBuffer.wrap(bytes).getLong(8);
+    }
+
+    private static long parseIpv4(String address) {
+        long value = 0;
+        int octet = -1;
+        int octets = 0;
+        for (int i = 0; i <= address.length(); i++) {
+            char c = i < address.length() ? address.charAt(i) : '.';
+            if (c == '.') {
+                if (octet < 0 || ++octets > 4) {
+                    return -1;
+                }
+                value = (value << 8) | octet;
+                octet = -1;
+            } else if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    return -1;
+                }
+            } else {
+                return -1;
+            }
+        }
+        return octets == 4 ? value : -1;
+    }
+
+    // Textos com ':' são sempre tratados como IPv6 literal pelo InetAddress, sem DNS
+    private static byte[] ipv6Bytes(String address) {
+        try {
+            byte[] bytes = InetAddress.getByName(address).getAddress();
+            if (bytes.length == 16) {
+                return bytes;
+            }
+            return ByteBuffer.allocate(16).putLong(0).putInt(0xFFFF).put(bytes).array();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.desafio.itau.demo.audit;
+
+import com.desafio.itau.demo.model.PasswordHashResponse;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.warmup.WarmupRequests;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Registra na auditoria cada resultado devolvido pelos endpoints de validação
+ * (/api/password/validate, o lote e validate-and-hash), incluindo as rejeições
+ * de entrada, com o endereço do cliente; as requisições de aquecimento são ignoradas
+ */
+@ControllerAdvice
+public class AuditResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String AUDITED_PATH = "/api/password/validate";
+
+    private final AuditLog auditLog;
+    private final WarmupRequests warmupRequests;
+
+    public AuditResponseBodyAdvice(ObjectProvider<AuditLog> auditLog, WarmupRequests warmupRequests) {
+        this.auditLog = auditLog.getIfAvailable(() -> AuditLog.DISABLED);
+        this.warmupRequests = warmupRequests;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return auditLog != AuditLog.DISABLED;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        if (!httpRequest.getRequestURI().startsWith(AUDITED_PATH, httpRequest.getContextPath().length())
+                || warmupRequests.isWarmup(httpRequest)) {
+            return body;
+        }
+
+        String client = httpRequest.getRemoteAddr();
+        if (body instanceof PasswordValidationResponse validation) {
+            auditLog.record(client, validation.getCode());
+        } else if (body instanceof PasswordHashResponse hash) {
+            auditLog.record(client, hash.getCode());
+        } else if (body instanceof Iterable<?> results) {
+            for (Object result : results) {
+                if (result instanceof PasswordValidationResponse validation) {
+                    auditLog.record(client, validation.getCode());
+                }
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,107 @@
+package com.desafio.itau.demo.audit;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fila circular sem locks de registros de auditoria de tamanho fixo
+ *
+ * Vários produtores (threads de requisição) e um único consumidor (a thread de
+ * escrita). Os campos de cada registro ficam em um long[] pré-alocado e cada
+ * posição tem um número de sequência que indica se está livre ou publicada
+ * (fila limitada de D. Vyukov), então nada é alocado por evento. Com a fila
+ * cheia, offer() descarta o registro em vez de esperar.
+ */
+final class AuditRingBuffer {
+
+    private static final int LONGS_PER_RECORD = 4;
+
+    private final int capacity;
+    private final int mask;
+    private final long[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+
+    // Escrito apenas pelo consumidor; volátil para a leitura de size()
+    private volatile long head;
+
+    AuditRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacidade da fila de auditoria deve ser potência de 2: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new long[capacity * LONGS_PER_RECORD];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Publica um registro; seguro para várias threads
+     *
+     * @return false se a fila está cheia
+     */
+    boolean offer(long timestampMillis, long clientHigh, long clientLow, int outcomeCode, int policyVersion) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    int base = index * LONGS_PER_RECORD;
+                    slots[base] = timestampMillis;
+                    slots[base + 1] = clientHigh;
+                    slots[base + 2] = clientLow;
+                    slots[base + 3] = ((long) outcomeCode << 32) | (policyVersion & 0xFFFFFFFFL);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Copia para o buffer, no formato de {@link AuditRecord}, até maxRecords registros
+     * já publicados e libera suas posições; somente a thread consumidora pode chamar
+     *
+     * @return quantidade de registros copiados
+     */
+    int drainTo(ByteBuffer buffer, int maxRecords) {
+        long position = head;
+        int drained = 0;
+        while (drained < maxRecords) {
+            int index = (int) (position & mask);
+            if (sequences.getAcquire(index) != position + 1) {
+                break;
+            }
+            int base = index * LONGS_PER_RECORD;
+            long codeAndVersion = slots[base + 3];
+            AuditRecord.write(buffer, slots[base], slots[base + 1], slots[base + 2],
+                (int) (codeAndVersion >>> 32), (int) codeAndVersion);
+            sequences.setRelease(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    /**
+     * Registros aguardando escrita (aproximado sob concorrência)
+     */
+    int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
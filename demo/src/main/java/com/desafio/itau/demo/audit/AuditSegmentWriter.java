@@ -0,0 +1,120 @@
+package com.desafio.itau.demo.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Grava lotes de registros em segmentos append-only, rotacionados por tamanho e idade
+ * Usado apenas pela thread de escrita do {@link AuditLogImpl}
+ */
+final class AuditSegmentWriter implements Closeable {
+
+    static final String SEGMENT_PREFIX = "audit-";
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final long maxSegmentAgeMillis;
+    private final boolean fsync;
+    private final ByteBuffer header = ByteBuffer.allocate(AuditRecord.HEADER_SIZE);
+
+    private FileChannel channel;
+    private Path segment;
+    private long segmentBytes;
+    private long segmentStartMillis;
+
+    AuditSegmentWriter(Path directory, long maxSegmentBytes, long maxSegmentAgeMillis, boolean fsync)
+            throws IOException {
+        this.directory = Files.createDirectories(directory);
+        // Ao menos um registro por segmento
+        this.maxSegmentBytes = Math.max(maxSegmentBytes, AuditRecord.HEADER_SIZE + AuditRecord.SIZE);
+        this.maxSegmentAgeMillis = maxSegmentAgeMillis;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Grava os registros do buffer (posição até o limite) e, com fsync, força-os ao disco
+     * em uma única chamada por lote (group commit)
+     */
+    void append(ByteBuffer records, long nowMillis) throws IOException {
+        int limit = records.limit();
+        while (records.position() < limit) {
+            if (channel == null || segmentBytes + AuditRecord.SIZE > maxSegmentBytes
+                    || nowMillis - segmentStartMillis >= maxSegmentAgeMillis) {
+                openSegment(nowMillis);
+            }
+            long room = (maxSegmentBytes - segmentBytes) / AuditRecord.SIZE * AuditRecord.SIZE;
+            records.limit((int) Math.min(limit, records.position() + room));
+            while (records.hasRemaining()) {
+                segmentBytes += channel.write(records);
+            }
+            records.limit(limit);
+        }
+        if (fsync && channel != null) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Fecha o segmento atual se passou da idade máxima; o próximo lote abre outro
+     */
+    void rotateIfExpired(long nowMillis) throws IOException {
+        if (channel != null && nowMillis - segmentStartMillis >= maxSegmentAgeMillis) {
+            closeSegment();
+        }
+    }
+
+    Path currentSegment() {
+        return segment;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeSegment();
+    }
+
+    private void openSegment(long nowMillis) throws IOException {
+        closeSegment();
+        long startMillis = nowMillis;
+        Path path = directory.resolve(segmentName(startMillis));
+        while (Files.exists(path)) {
+            path = directory.resolve(segmentName(++startMillis));
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segment = path;
+        segmentStartMillis = nowMillis;
+
+        header.clear();
+        AuditRecord.writeHeader(header);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        segmentBytes = AuditRecord.HEADER_SIZE;
+    }
+
+    private void closeSegment() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            if (fsync) {
+                channel.force(true);
+            }
+        } finally {
+            channel.close();
+            channel = null;
+            segment = null;
+        }
+    }
+
+    // Largura fixa para que a ordem alfabética seja a cronológica
+    static String segmentName(long startMillis) {
+        return String.format("%s%013d%s", SEGMENT_PREFIX, startMillis, SEGMENT_SUFFIX);
+    }
+}
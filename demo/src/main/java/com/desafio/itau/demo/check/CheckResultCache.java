@@ -0,0 +1,138 @@
+package com.desafio.itau.demo.check;
+
+import com.desafio.itau.demo.model.UserContext;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache limitado dos resultados de uma verificação externa
+ *
+ * A chave é um resumo SHA-256 (com sal aleatório por processo) da senha e dos
+ * dados do usuário, então a senha nunca fica guardada. Entradas expiram pelo
+ * tempo de vida; com o cache cheio, o novo resultado substitui o usado há mais
+ * tempo, em O(1) e sem percorrer as demais entradas.
+ */
+final class CheckResultCache {
+
+    private final long ttlNanos;
+    private final Map<Key, Entry> entries;
+
+    CheckResultCache(long ttlNanos, int maxEntries) {
+        this.ttlNanos = ttlNanos;
+        // Ordem de acesso: a entrada mais antiga é a menos usada recentemente
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return resultado guardado ou null se ausente ou expirado
+     */
+    Boolean get(Key key, long now) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now - entry.expiresAt >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.satisfied;
+        }
+    }
+
+    void put(Key key, boolean satisfied, long now) {
+        Entry entry = new Entry(now + ttlNanos, satisfied);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static final class Entry {
+
+        private final long expiresAt;
+        private final boolean satisfied;
+
+        private Entry(long expiresAt, boolean satisfied) {
+            this.expiresAt = expiresAt;
+            this.satisfied = satisfied;
+        }
+    }
+
+    /**
+     * Resumo de 128 bits da senha e dos dados do usuário
+     */
+    static final class Key {
+
+        private final long high;
+        private final long low;
+
+        private Key(long high, long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        static Key of(byte[] salt, String password, UserContext context) {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 indisponível", e);
+            }
+            digest.update(salt);
+            update(digest, password);
+            if (context != null) {
+                update(digest, context.getUsername());
+                update(digest, context.getEmail());
+                update(digest, context.getFullName());
+                update(digest, context.getBirthDate());
+            }
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest());
+            return new Key(hash.getLong(), hash.getLong());
+        }
+
+        /**
+         * Cada campo é precedido do tamanho, para que campos vizinhos não se confundam
+         */
+        private static void update(MessageDigest digest, String value) {
+            if (value == null) {
+                digest.update((byte) 0xFF);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return high == other.high && low == other.low;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(high ^ low);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.desafio.itau.demo.check;
+
+import com.desafio.itau.demo.model.UserContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Substituto local de um serviço de diretório corporativo: rejeita senhas que
+ * o diretório conhece como comprometidas, com a latência de uma consulta remota
+ * simulada. Serve para exercitar o {@link PasswordCheckRunner} sem dependências externas.
+ */
+@Slf4j
+@Component
+@Order(100)
+@ConditionalOnProperty(prefix = "password.checks.directory", name = "enabled")
+public class DirectoryStandInCheck implements PasswordCheck {
+
+    public static final int FAILURE_CODE = 200;
+
+    private static final String NAME = "diretorio-corporativo";
+    private static final String FAILURE_MESSAGE = "Senha consta como comprometida no diretório corporativo";
+
+    private final Set<String> compromised;
+    private final Duration latency;
+
+    public DirectoryStandInCheck(
+            @Value("${password.checks.directory.location:classpath:directory-stand-in.txt}") Resource location,
+            @Value("${password.checks.directory.latency:20ms}") Duration latency) {
+        this.compromised = readPasswords(location);
+        this.latency = latency;
+        log.info("Diretório simulado com {} senhas comprometidas e latência de {} ms",
+            compromised.size(), latency.toMillis());
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isSatisfiedBy(String password, UserContext context) throws InterruptedException {
+        Thread.sleep(latency);
+        return !compromised.contains(password);
+    }
+
+    @Override
+    public String getFailureMessage() {
+        return FAILURE_MESSAGE;
+    }
+
+    @Override
+    public int getFailureCode() {
+        return FAILURE_CODE;
+    }
+
+    /**
+     * Lê uma senha por linha, ignorando linhas em branco e comentários iniciados por '#'
+     */
+    private static Set<String> readPasswords(Resource location) {
+        Set<String> passwords = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String password = line.strip();
+                if (!password.isEmpty() && password.charAt(0) != '#') {
+                    passwords.add(password);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao carregar o diretório simulado de " + location, e);
+        }
+        return passwords;
+    }
+}
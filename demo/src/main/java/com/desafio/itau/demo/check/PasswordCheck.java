@@ -0,0 +1,47 @@
+package com.desafio.itau.demo.check;
+
+import com.desafio.itau.demo.model.UserContext;
+
+/**
+ * Verificação externa de senhas (serviço de diretório, repositório de políticas)
+ * Executada pelo {@link PasswordCheckRunner} somente para senhas já aprovadas
+ * pelas regras locais, em paralelo com as demais verificações e com prazo
+ */
+public interface PasswordCheck {
+
+    /**
+     * @return nome da verificação, usado em logs e métricas
+     */
+    String getName();
+
+    /**
+     * Verifica se a senha atende à verificação
+     * Roda em uma virtual thread própria e pode bloquear em I/O; deve responder
+     * à interrupção, usada para cancelar a verificação quando o prazo acaba
+     *
+     * @param password senha já aprovada pelas regras locais
+     * @param context dados do usuário; nulo quando a requisição não os informa
+     * @return true se a senha atende à verificação
+     * @throws Exception falha na consulta, tratada conforme a política de falha
+     */
+    boolean isSatisfiedBy(String password, UserContext context) throws Exception;
+
+    /**
+     * @return mensagem retornada quando a senha não atende à verificação
+     */
+    String getFailureMessage();
+
+    /**
+     * @return código numérico retornado quando a senha não atende à verificação;
+     *         a partir de 200, para não colidir com os das regras locais
+     */
+    int getFailureCode();
+
+    /**
+     * @return true se o resultado pode ser reaproveitado para a mesma senha e os
+     *         mesmos dados do usuário durante o tempo de vida do cache
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+}
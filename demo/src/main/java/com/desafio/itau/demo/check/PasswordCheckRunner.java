@@ -0,0 +1,311 @@
+package com.desafio.itau.demo.check;
+
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.UserContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executa as {@link PasswordCheck} registradas em paralelo, com prazo por requisição
+ *
+ * Só roda para senhas já aprovadas pelas regras locais. Resultados em cache são
+ * consultados antes de qualquer disparo (uma reprovação conhecida encerra a
+ * requisição sem consultas); as demais verificações começam juntas, cada uma em
+ * uma virtual thread, e a primeira reprovação cancela as restantes. A latência
+ * fica limitada pela verificação mais lenta e, no pior caso, pelo prazo. Ao fim
+ * do prazo ou em caso de falha, a política decide: FAIL_OPEN mantém o resultado
+ * das regras locais e FAIL_CLOSED rejeita a senha como indisponível. Em um lote,
+ * as verificações de todos os itens correm juntas sob um único prazo.
+ */
+@Slf4j
+public class PasswordCheckRunner implements AutoCloseable {
+
+    /**
+     * O que fazer quando uma verificação falha ou não responde no prazo
+     */
+    public enum FailurePolicy {
+        FAIL_OPEN,
+        FAIL_CLOSED
+    }
+
+    /**
+     * Código da rejeição por indisponibilidade com FAIL_CLOSED; fica no fim da faixa das verificações
+     */
+    public static final int UNAVAILABLE_CODE = 299;
+
+    public static final String UNAVAILABLE_MESSAGE =
+        "Não foi possível concluir as verificações da senha, tente novamente";
+
+    private static final int SALT_BYTES = 16;
+
+    private final PasswordCheck[] checks;
+    private final CheckResultCache[] caches;
+    private final boolean cacheEnabled;
+    private final long deadlineNanos;
+    private final FailurePolicy failurePolicy;
+    private final byte[] salt = new byte[SALT_BYTES];
+    private final ExecutorService executor =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("password-check-", 0).factory());
+
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+
+    public PasswordCheckRunner(List<PasswordCheck> checks, Duration deadline, FailurePolicy failurePolicy,
+                               Duration cacheTtl, int cacheMaxEntries) {
+        if (deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("Prazo das verificações deve ser positivo: " + deadline);
+        }
+        this.checks = checks.toArray(new PasswordCheck[0]);
+        this.caches = new CheckResultCache[this.checks.length];
+        boolean anyCache = false;
+        if (!cacheTtl.isZero() && cacheMaxEntries > 0) {
+            for (int i = 0; i < this.checks.length; i++) {
+                if (this.checks[i].isCacheable()) {
+                    caches[i] = new CheckResultCache(cacheTtl.toNanos(), cacheMaxEntries);
+                    anyCache = true;
+                }
+            }
+        }
+        this.cacheEnabled = anyCache;
+        this.deadlineNanos = deadline.toNanos();
+        this.failurePolicy = failurePolicy;
+        new SecureRandom().nextBytes(salt);
+        if (this.checks.length > 0) {
+            log.info("Verificações externas {} com prazo de {} ms ({})",
+                checks.stream().map(PasswordCheck::getName).toList(), deadline.toMillis(), failurePolicy);
+        }
+    }
+
+    public boolean isEmpty() {
+        return checks.length == 0;
+    }
+
+    /**
+     * Aplica as verificações externas a uma senha aprovada pelas regras locais
+     *
+     * @param localResponse resultado das regras locais; devolvido se não for válido
+     * @return localResponse se todas as verificações passarem; senão a reprovação
+     */
+    public PasswordValidationResponse run(String password, UserContext context,
+                                          PasswordValidationResponse localResponse) {
+        if (checks.length == 0 || !localResponse.isValid()) {
+            return localResponse;
+        }
+        return runAll(Collections.singletonList(password), Collections.singletonList(context),
+            List.of(localResponse)).get(0);
+    }
+
+    /**
+     * Aplica as verificações externas a um lote, sob um único prazo
+     *
+     * As verificações pendentes de todos os itens aprovados pelas regras locais
+     * começam juntas, então o lote leva o tempo da verificação mais lenta e nunca
+     * mais que o prazo de uma requisição, qualquer que seja o tamanho. A reprovação
+     * de um item cancela só as verificações dele; ao fim do prazo, os itens ainda
+     * sem resposta seguem a política de falha.
+     *
+     * @param contexts dados do usuário de cada item; os elementos podem ser nulos
+     * @param localResponses resultado das regras locais de cada item
+     * @return resultado de cada item, na ordem da entrada
+     */
+    public List<PasswordValidationResponse> runAll(List<String> passwords, List<UserContext> contexts,
+                                                   List<PasswordValidationResponse> localResponses) {
+        int size = localResponses.size();
+        List<PasswordValidationResponse> responses = new ArrayList<>(localResponses);
+        if (checks.length == 0) {
+            return responses;
+        }
+        long deadline = System.nanoTime() + deadlineNanos;
+        CheckResultCache.Key[] keys = new CheckResultCache.Key[size];
+        // Posição (item * checks.length + verificação) das verificações que precisam rodar
+        boolean[] needed = new boolean[size * checks.length];
+        int[] pending = new int[size];
+        int undecided = 0;
+        int submitted = 0;
+
+        // Cache primeiro: uma reprovação conhecida dispensa qualquer consulta do item
+        long now = System.nanoTime();
+        for (int item = 0; item < size; item++) {
+            if (!localResponses.get(item).isValid()) {
+                continue;
+            }
+            CheckResultCache.Key key = cacheEnabled
+                ? CheckResultCache.Key.of(salt, passwords.get(item), contexts.get(item)) : null;
+            keys[item] = key;
+            PasswordValidationResponse cachedFailure = null;
+            for (int i = 0; i < checks.length && cachedFailure == null; i++) {
+                Boolean result = caches[i] != null ? caches[i].get(key, now) : null;
+                if (result == null) {
+                    needed[item * checks.length + i] = true;
+                    pending[item]++;
+                    continue;
+                }
+                cacheHits.increment();
+                if (!result) {
+                    cachedFailure = failure(checks[i]);
+                }
+            }
+            if (cachedFailure != null) {
+                responses.set(item, cachedFailure);
+                pending[item] = 0;
+            } else if (pending[item] > 0) {
+                undecided++;
+                submitted += pending[item];
+            }
+        }
+        if (undecided == 0) {
+            return responses;
+        }
+
+        ExecutorCompletionService<Integer> completion = new ExecutorCompletionService<>(executor);
+        Future<?>[] futures = new Future<?>[needed.length];
+        try {
+            for (int slot = 0; slot < needed.length; slot++) {
+                int item = slot / checks.length;
+                if (needed[slot] && pending[item] > 0) {
+                    futures[slot] = completion.submit(task(slot, passwords.get(item), contexts.get(item)));
+                }
+            }
+            for (; undecided > 0 && submitted > 0; submitted--) {
+                Future<Integer> done = completion.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    timeouts.increment();
+                    log.warn("Verificações externas sem resposta em {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(deadlineNanos));
+                    break;
+                }
+                if (done.isCancelled()) {
+                    continue;
+                }
+                int outcome;
+                try {
+                    outcome = done.get();
+                } catch (ExecutionException e) {
+                    failures.increment();
+                    log.warn("Falha em verificação externa", e.getCause());
+                    int item = ((CheckFailedException) e.getCause()).slot / checks.length;
+                    if (pending[item] == 0) {
+                        continue;
+                    }
+                    if (failurePolicy == FailurePolicy.FAIL_CLOSED) {
+                        responses.set(item, unavailable(responses.get(item)));
+                        cancel(futures, item);
+                        pending[item] = 0;
+                        undecided--;
+                    } else if (--pending[item] == 0) {
+                        undecided--;
+                    }
+                    continue;
+                }
+                // Posição da verificação; negativa (complemento) quando a senha foi reprovada
+                int slot = outcome >= 0 ? outcome : ~outcome;
+                int item = slot / checks.length;
+                int index = slot % checks.length;
+                if (caches[index] != null) {
+                    caches[index].put(keys[item], outcome >= 0, System.nanoTime());
+                }
+                if (pending[item] == 0) {
+                    continue;
+                }
+                if (outcome < 0) {
+                    responses.set(item, failure(checks[index]));
+                    cancel(futures, item);
+                    pending[item] = 0;
+                    undecided--;
+                } else if (--pending[item] == 0) {
+                    undecided--;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Nenhuma verificação sobrevive à requisição
+            for (Future<?> future : futures) {
+                if (future != null) {
+                    future.cancel(true);
+                }
+            }
+        }
+        // Itens sem resposta no prazo (ou interrompidos) seguem a política de falha
+        for (int item = 0; item < size; item++) {
+            if (pending[item] > 0) {
+                responses.set(item, unavailable(responses.get(item)));
+            }
+        }
+        return responses;
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private Callable<Integer> task(int slot, String password, UserContext context) {
+        PasswordCheck check = checks[slot % checks.length];
+        return () -> {
+            try {
+                return check.isSatisfiedBy(password, context) ? slot : ~slot;
+            } catch (Exception e) {
+                // Inclui a interrupção: fora de um cancelamento ela também conta como falha
+                throw new CheckFailedException(slot, check, e);
+            }
+        };
+    }
+
+    private void cancel(Future<?>[] futures, int item) {
+        for (int slot = item * checks.length; slot < (item + 1) * checks.length; slot++) {
+            if (futures[slot] != null) {
+                futures[slot].cancel(true);
+            }
+        }
+    }
+
+    private PasswordValidationResponse unavailable(PasswordValidationResponse localResponse) {
+        return failurePolicy == FailurePolicy.FAIL_OPEN
+            ? localResponse
+            : PasswordValidationResponse.invalid(UNAVAILABLE_CODE, UNAVAILABLE_MESSAGE);
+    }
+
+    private static PasswordValidationResponse failure(PasswordCheck check) {
+        return PasswordValidationResponse.invalid(check.getFailureCode(), check.getFailureMessage());
+    }
+
+    /**
+     * Falha de uma verificação, com a posição dela no lote
+     */
+    private static final class CheckFailedException extends IllegalStateException {
+
+        private final int slot;
+
+        private CheckFailedException(int slot, PasswordCheck check, Exception cause) {
+            super("Falha na verificação " + check.getName(), cause);
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.desafio.itau.demo.config;
+
+import com.desafio.itau.demo.audit.AuditLog;
+import com.desafio.itau.demo.audit.AuditLogImpl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração da trilha de auditoria das validações.
+ *
+ * Os segmentos ficam em password.audit.directory e podem ser exportados em CSV
+ * com o AuditLogReader. Descartes por fila cheia aparecem em /actuator/metrics.
+ */
+@Configuration
+public class AuditConfig {
+
+    @Bean
+    public AuditLog auditLog(
+            @Value("${password.audit.enabled:true}") boolean enabled,
+            @Value("${password.audit.directory:audit}") Path directory,
+            @Value("${password.audit.buffer-capacity:65536}") int bufferCapacity,
+            @Value("${password.audit.segment-max-size:64MB}") DataSize maxSegmentSize,
+            @Value("${password.audit.segment-max-age:1h}") Duration maxSegmentAge,
+            @Value("${password.audit.flush-interval:10ms}") Duration flushInterval,
+            @Value("${password.audit.fsync:true}") boolean fsync,
+            @Value("${password.policy.version:1}") int policyVersion) throws IOException {
+
+        if (!enabled) {
+            return AuditLog.DISABLED;
+        }
+        return new AuditLogImpl(directory, bufferCapacity, maxSegmentSize.toBytes(), maxSegmentAge,
+            flushInterval, fsync, policyVersion);
+    }
+
+    /**
+     * Publica registros gravados, descartados e pendentes no Actuator
+     */
+    @Bean
+    public MeterBinder auditLogMetrics(AuditLog auditLog) {
+        return registry -> {
+            if (!(auditLog instanceof AuditLogImpl impl)) {
+                return;
+            }
+            FunctionCounter.builder("password.audit.written", impl, AuditLogImpl::getWrittenCount)
+                .description("Registros de auditoria gravados")
+                .register(registry);
+            FunctionCounter.builder("password.audit.dropped", impl, AuditLogImpl::getDroppedCount)
+                .description("Registros de auditoria descartados por fila cheia ou falha de escrita")
+                .register(registry);
+            Gauge.builder("password.audit.pending", impl, AuditLogImpl::getPendingCount)
+                .description("Registros de auditoria aguardando escrita")
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.desafio.itau.demo.config;
+
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Codificações binárias compactas (CBOR e Smile) negociadas pelos endpoints de validação.
+ *
+ * Os conversores entram na cadeia de HttpMessageConverter do Spring MVC depois do
+ * JSON, que continua o padrão: o formato binário só é usado quando o chamador o pede
+ * no Accept ou o envia no Content-Type. Nesses formatos o PasswordValidationResponse
+ * leva o código numérico do resultado no lugar da mensagem, que só acompanha as
+ * respostas sem código (erros de entrada). No JSON nada muda.
+ */
+@Configuration
+public class ContentNegotiationConfig {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final String BINARY_RESPONSE_FILTER = "binaryValidationResponse";
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jsonValidationResponseCustomizer() {
+        return builder -> builder.mixIn(PasswordValidationResponse.class, JsonResponseMixin.class);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(binaryObjectMapper(builder, new CBORFactory()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(binaryObjectMapper(builder, new SmileFactory()));
+    }
+
+    /**
+     * Mesmas configurações do ObjectMapper da aplicação, com o formato binário das respostas de validação
+     */
+    private static ObjectMapper binaryObjectMapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+        ObjectMapper objectMapper = builder.factory(factory).build();
+        objectMapper.addMixIn(PasswordValidationResponse.class, BinaryResponseMixin.class);
+        objectMapper.setFilterProvider(
+            new SimpleFilterProvider().addFilter(BINARY_RESPONSE_FILTER, new CodedMessageFilter()));
+        return objectMapper;
+    }
+
+    @JsonIgnoreProperties({"code"})
+    private abstract static class JsonResponseMixin {
+    }
+
+    @JsonFilter(BINARY_RESPONSE_FILTER)
+    @JsonPropertyOrder({"valid", "code", "message"})
+    private abstract static class BinaryResponseMixin {
+    }
+
+    /**
+     * Omite a mensagem quando o código já identifica o resultado
+     */
+    private static final class CodedMessageFilter extends SimpleBeanPropertyFilter {
+
+        @Override
+        public void serializeAsField(Object pojo, JsonGenerator generator, SerializerProvider provider,
+                                     PropertyWriter writer) throws Exception {
+            if ("message".equals(writer.getName()) && pojo instanceof PasswordValidationResponse response
+                    && response.getCode() != PasswordValidationResponse.CODE_UNSPECIFIED) {
+                return;
+            }
+            writer.serializeAsField(pojo, generator, provider);
+        }
+    }
+}
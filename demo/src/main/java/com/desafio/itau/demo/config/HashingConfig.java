@@ -0,0 +1,125 @@
+package com.desafio.itau.demo.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuração do hash de senhas do endpoint validate-and-hash.
+ *
+ * O hash roda em um pool próprio, limitado ao número de núcleos e com fila
+ * limitada: quando a fila enche, novas tarefas são rejeitadas (503) em vez de
+ * acumular, e as threads do servidor seguem livres para /api/password/validate.
+ *
+ * O BCrypt só considera 72 bytes e recusa entradas maiores, menos que o tamanho
+ * máximo aceito para a senha; por isso ele recebe um pré-hash SHA-256 da senha.
+ */
+@Slf4j
+@Configuration
+public class HashingConfig {
+
+    public static final String HASH_EXECUTOR = "passwordHashExecutor";
+
+    @Bean
+    public PasswordEncoder passwordHashEncoder(
+            @Value("${password.hash.algorithm:argon2}") String algorithm,
+            @Value("${password.hash.argon2.memory-kib:19456}") int argon2MemoryKib,
+            @Value("${password.hash.argon2.iterations:2}") int argon2Iterations,
+            @Value("${password.hash.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${password.hash.bcrypt.strength:10}") int bcryptStrength) {
+
+        return switch (algorithm.toLowerCase()) {
+            case "argon2" -> new Argon2PasswordEncoder(16, 32, argon2Parallelism, argon2MemoryKib, argon2Iterations);
+            case "bcrypt" -> new PreHashedBCryptPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength));
+            default -> throw new IllegalArgumentException(
+                "Algoritmo de hash não suportado: " + algorithm + " (use argon2 ou bcrypt)");
+        };
+    }
+
+    @Bean(name = HASH_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashExecutor(
+            @Value("${password.hash.threads:0}") int threads,
+            @Value("${password.hash.queue-capacity:64}") int queueCapacity) {
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        log.info("Pool de hash de senhas com {} threads e fila de {} tarefas", poolSize, queueCapacity);
+
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new HashThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Publica tamanho da fila, tarefas ativas e concluídas do pool no Actuator
+     */
+    @Bean
+    public MeterBinder passwordHashExecutorMetrics(@Qualifier(HASH_EXECUTOR) ThreadPoolExecutor executor) {
+        return registry -> new ExecutorServiceMetrics(executor, "password.hash", List.of()).bindTo(registry);
+    }
+
+    /**
+     * BCrypt sobre o SHA-256 da senha em Base64 (44 bytes ASCII), para que senhas
+     * acima de 72 bytes em UTF-8 sejam aceitas sem truncamento
+     */
+    private static final class PreHashedBCryptPasswordEncoder implements PasswordEncoder {
+
+        private final BCryptPasswordEncoder delegate;
+
+        private PreHashedBCryptPasswordEncoder(BCryptPasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return delegate.encode(preHash(rawPassword));
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return delegate.matches(preHash(rawPassword), encodedPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            return delegate.upgradeEncoding(encodedPassword);
+        }
+
+        private static String preHash(CharSequence rawPassword) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+                return Base64.getEncoder().encodeToString(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 indisponível", e);
+            }
+        }
+    }
+
+    private static final class HashThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+        }
+    }
+}
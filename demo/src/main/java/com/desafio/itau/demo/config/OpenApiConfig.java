@@ -0,0 +1,163 @@
+package com.desafio.itau.demo.config;
+
+import com.desafio.itau.demo.check.PasswordCheck;
+import com.desafio.itau.demo.check.PasswordCheckRunner;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import com.desafio.itau.demo.validator.PasswordRule;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.info.Contact;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.servers.Server;
+import org.springdoc.core.customizers.OpenApiCustomizer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuração do OpenAPI/Swagger para documentação da API.
+ */
+@Configuration
+public class OpenApiConfig {
+
+    private static final String COMPACT_RESPONSE_SCHEMA = "CompactPasswordValidationResponse";
+
+    // Endpoints que negociam CBOR e Smile, com o esquema de resposta de cada um
+    private static final Map<String, Boolean> BINARY_ENDPOINTS = Map.of(
+            "/api/password/validate", false,
+            "/api/password/validate/batch", true
+    );
+
+    private static final List<String> BINARY_MEDIA_TYPES = List.of(
+            org.springframework.http.MediaType.APPLICATION_CBOR_VALUE,
+            ContentNegotiationConfig.APPLICATION_SMILE.toString()
+    );
+
+    /**
+     * Configuração do OpenAPI com informações da API.
+     *
+     * @param rules regras adicionais, listadas na tabela de códigos
+     * @param checks verificações externas, listadas na tabela de códigos
+     * @return Configuração do OpenAPI
+     */
+    @Bean
+    public OpenAPI customOpenAPI(ObjectProvider<PasswordRule> rules, ObjectProvider<PasswordCheck> checks) {
+        return new OpenAPI()
+                .info(new Info()
+                        .title("Validador de Senhas - Desafio Itaú")
+                        .description("API REST para validação de senhas seguindo regras específicas de segurança. " +
+                                "A API verifica se uma senha atende aos critérios estabelecidos incluindo " +
+                                "comprimento mínimo, presença de diferentes tipos de caracteres e ausência de repetições." +
+                                "\n\n" + binaryEncodingsDescription(rules.orderedStream().toList(),
+                                checks.orderedStream().toList()))
+                        .version("1.0.0")
+                        .contact(new Contact()
+                                .name("Desafio Itaú")
+                                .email("desafio@itau.com")
+                                .url("https://www.itau.com"))
+                        .license(new License()
+                                .name("MIT License")
+                                .url("https://opensource.org/licenses/MIT")))
+                .servers(List.of(
+                        new Server()
+                                .url("http://localhost:8080")
+                                .description("Servidor de Desenvolvimento")
+                ));
+    }
+
+    /**
+     * Acrescenta CBOR e Smile ao corpo e à resposta 200 dos endpoints de validação.
+     *
+     * @return customizador aplicado ao documento gerado pelo springdoc
+     */
+    @Bean
+    public OpenApiCustomizer binaryMediaTypesCustomizer() {
+        return openApi -> {
+            if (openApi.getComponents() == null) {
+                openApi.setComponents(new Components());
+            }
+            openApi.getComponents().addSchemas(COMPACT_RESPONSE_SCHEMA, compactResponseSchema());
+
+            BINARY_ENDPOINTS.forEach((path, batch) -> {
+                PathItem pathItem = openApi.getPaths() != null ? openApi.getPaths().get(path) : null;
+                if (pathItem == null || pathItem.getPost() == null) {
+                    return;
+                }
+                addBinaryMediaTypes(pathItem.getPost(), batch);
+            });
+        };
+    }
+
+    private static void addBinaryMediaTypes(Operation operation, boolean batch) {
+        Schema<?> compactResponse = new Schema<>().$ref("#/components/schemas/" + COMPACT_RESPONSE_SCHEMA);
+        Schema<?> responseSchema = batch ? new ArraySchema().items(compactResponse) : compactResponse;
+
+        Content requestContent = operation.getRequestBody() != null ? operation.getRequestBody().getContent() : null;
+        MediaType jsonRequest = requestContent != null
+                ? requestContent.get(org.springframework.http.MediaType.APPLICATION_JSON_VALUE) : null;
+        ApiResponse ok = operation.getResponses() != null ? operation.getResponses().get("200") : null;
+
+        for (String mediaType : BINARY_MEDIA_TYPES) {
+            if (jsonRequest != null) {
+                requestContent.addMediaType(mediaType, new MediaType().schema(jsonRequest.getSchema()));
+            }
+            if (ok != null && ok.getContent() != null) {
+                ok.getContent().addMediaType(mediaType, new MediaType().schema(responseSchema));
+            }
+        }
+    }
+
+    private static Schema<?> compactResponseSchema() {
+        return new ObjectSchema()
+                .description("Resposta da validação nas codificações binárias (CBOR e Smile)")
+                .addProperty("valid", new BooleanSchema().description("Indica se a senha é válida"))
+                .addProperty("code", new IntegerSchema().example(0)
+                        .description("Código numérico do resultado, conforme a tabela da descrição da API"))
+                .addProperty("message", new StringSchema()
+                        .description("Enviada apenas quando code é " + PasswordValidationResponse.CODE_UNSPECIFIED));
+    }
+
+    private static String binaryEncodingsDescription(List<PasswordRule> rules, List<PasswordCheck> checks) {
+        StringBuilder description = new StringBuilder()
+                .append("Os endpoints de validação também aceitam e retornam CBOR (`application/cbor`) e Smile ")
+                .append("(`application/x-jackson-smile`), escolhidos pelos cabeçalhos `Content-Type` e `Accept`; ")
+                .append("JSON continua o padrão. Nesses formatos a resposta traz o código numérico do resultado ")
+                .append("no lugar da mensagem:\n\n")
+                .append("| Código | Resultado |\n")
+                .append("| ------ | --------- |\n");
+        for (ValidationOutcome outcome : ValidationOutcome.values()) {
+            description.append("| ").append(outcome.getCode()).append(" | ").append(outcome.getMessage()).append(" |\n");
+        }
+        for (PasswordRule rule : rules) {
+            description.append("| ").append(rule.getFailureCode()).append(" | ")
+                    .append(rule.getFailureMessage()).append(" |\n");
+        }
+        for (PasswordCheck check : checks) {
+            description.append("| ").append(check.getFailureCode()).append(" | ")
+                    .append(check.getFailureMessage()).append(" |\n");
+        }
+        if (!checks.isEmpty()) {
+            description.append("| ").append(PasswordCheckRunner.UNAVAILABLE_CODE).append(" | ")
+                    .append(PasswordCheckRunner.UNAVAILABLE_MESSAGE).append(" |\n");
+        }
+        return description.append("| ").append(PasswordValidationResponse.CODE_UNSPECIFIED)
+                .append(" | Erro de entrada ou interno; a mensagem é enviada |\n")
+                .toString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.desafio.itau.demo.config;
+
+import com.desafio.itau.demo.check.PasswordCheck;
+import com.desafio.itau.demo.check.PasswordCheckRunner;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração das verificações externas de senha.
+ *
+ * Toda {@link PasswordCheck} registrada como bean entra no runner, na ordem de
+ * {@code @Order}. Sem nenhuma verificação o runner não faz nada e a validação
+ * segue só com as regras locais. Prazos estourados, falhas e acertos de cache
+ * aparecem em /actuator/metrics.
+ */
+@Configuration
+public class PasswordCheckConfig {
+
+    @Bean
+    public PasswordCheckRunner passwordCheckRunner(
+            ObjectProvider<PasswordCheck> checks,
+            @Value("${password.checks.deadline:250ms}") Duration deadline,
+            @Value("${password.checks.failure-policy:fail-open}") PasswordCheckRunner.FailurePolicy failurePolicy,
+            @Value("${password.checks.cache.ttl:5m}") Duration cacheTtl,
+            @Value("${password.checks.cache.max-entries:10000}") int cacheMaxEntries) {
+        return new PasswordCheckRunner(checks.orderedStream().toList(), deadline, failurePolicy,
+            cacheTtl, cacheMaxEntries);
+    }
+
+    @Bean
+    public MeterBinder passwordCheckMetrics(PasswordCheckRunner runner) {
+        return registry -> {
+            if (runner.isEmpty()) {
+                return;
+            }
+            FunctionCounter.builder("password.checks.timeouts", runner, PasswordCheckRunner::getTimeoutCount)
+                .description("Requisições em que as verificações externas estouraram o prazo")
+                .register(registry);
+            FunctionCounter.builder("password.checks.failures", runner, PasswordCheckRunner::getFailureCount)
+                .description("Falhas de verificações externas")
+                .register(registry);
+            FunctionCounter.builder("password.checks.cache.hits", runner, PasswordCheckRunner::getCacheHitCount)
+                .description("Resultados de verificações externas atendidos pelo cache")
+                .register(registry);
+        };
+    }
+}
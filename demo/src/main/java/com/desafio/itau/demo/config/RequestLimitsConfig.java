@@ -0,0 +1,66 @@
+package com.desafio.itau.demo.config;
+
+import com.desafio.itau.demo.audit.AuditLog;
+import com.desafio.itau.demo.filter.EarlyRejectionFilter;
+import com.desafio.itau.demo.warmup.WarmupRequests;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Limites das requisições de validação, aplicados pelo EarlyRejectionFilter
+ * antes do Spring MVC. As rejeições por motivo aparecem em /actuator/metrics.
+ */
+@Configuration
+public class RequestLimitsConfig {
+
+    @Bean
+    public EarlyRejectionFilter earlyRejectionFilter(
+            ObjectMapper objectMapper,
+            MappingJackson2CborHttpMessageConverter cborConverter,
+            MappingJackson2SmileHttpMessageConverter smileConverter,
+            ObjectProvider<AuditLog> auditLog,
+            WarmupRequests warmupRequests,
+            @Value("${password.request.max-body-size:256KB}") DataSize maxBodySize,
+            @Value("${password.request.max-password-length:256}") int maxPasswordLength) {
+        return new EarlyRejectionFilter(objectMapper, cborConverter.getObjectMapper(),
+            smileConverter.getObjectMapper(), Math.toIntExact(maxBodySize.toBytes()), maxPasswordLength,
+            auditLog.getIfAvailable(() -> AuditLog.DISABLED), warmupRequests);
+    }
+
+    /**
+     * Restringe o filtro aos endpoints que recebem senhas; depois dos filtros de
+     * observação, para que as rejeições continuem em http.server.requests
+     */
+    @Bean
+    public FilterRegistrationBean<EarlyRejectionFilter> earlyRejectionFilterRegistration(
+            EarlyRejectionFilter earlyRejectionFilter) {
+        FilterRegistrationBean<EarlyRejectionFilter> registration = new FilterRegistrationBean<>(earlyRejectionFilter);
+        registration.addUrlPatterns("/api/password/validate", "/api/password/validate/*",
+            "/api/password/validate-and-hash");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder earlyRejectionMetrics(EarlyRejectionFilter earlyRejectionFilter) {
+        return registry -> {
+            for (EarlyRejectionFilter.Reason reason : EarlyRejectionFilter.Reason.values()) {
+                FunctionCounter.builder("password.request.rejected", earlyRejectionFilter,
+                        filter -> filter.getRejectedCount(reason))
+                    .description("Requisições rejeitadas antes do Spring MVC")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.desafio.itau.demo.config;
+
+import com.desafio.itau.demo.shadow.ShadowEvaluatorImpl;
+import com.desafio.itau.demo.validator.PasswordRule;
+import com.desafio.itau.demo.validator.PasswordValidatorChain;
+import com.desafio.itau.demo.validator.PasswordValidatorImpl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração da avaliação em sombra de uma política candidata.
+ *
+ * A candidata usa as mesmas regras da política atual, na mesma ordem, e muda
+ * apenas o comprimento mínimo. Assim a matriz mede só o efeito dessa mudança:
+ * quantas senhas aceitas hoje passariam a ser rejeitadas com tráfego real.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "password.shadow", name = "enabled")
+public class ShadowEvaluationConfig {
+
+    @Bean
+    public ShadowEvaluatorImpl shadowEvaluator(
+            ObjectProvider<PasswordRule> rules,
+            @Value("${password.policy.version:1}") int currentPolicyVersion,
+            @Value("${password.shadow.candidate.version:2}") int candidatePolicyVersion,
+            @Value("${password.shadow.candidate.min-length:12}") int candidateMinLength,
+            @Value("${password.shadow.sample-rate:0.05}") double sampleRate,
+            @Value("${password.shadow.queue-capacity:1024}") int queueCapacity) {
+
+        PasswordValidatorChain candidate = new PasswordValidatorChain(
+            new PasswordValidatorImpl(candidateMinLength), rules.orderedStream().toList());
+        return new ShadowEvaluatorImpl(candidate, currentPolicyVersion, candidatePolicyVersion,
+            sampleRate, queueCapacity);
+    }
+}
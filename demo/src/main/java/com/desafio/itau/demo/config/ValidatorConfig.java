@@ -0,0 +1,67 @@
+package com.desafio.itau.demo.config;
+
+import com.desafio.itau.demo.validator.BannedSubstringRule;
+import com.desafio.itau.demo.validator.PasswordRule;
+import com.desafio.itau.demo.validator.PasswordValidatorChain;
+import com.desafio.itau.demo.validator.PasswordValidatorImpl;
+import com.desafio.itau.demo.validator.UserContextSimilarityRule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Registra o validador, as regras e a cadeia do módulo core, que não dependem do Spring.
+ *
+ * Toda {@link PasswordRule} registrada como bean entra na cadeia, na ordem de
+ * {@code @Order}; as regras do core recebem aqui suas propriedades.
+ */
+@Slf4j
+@Configuration
+public class ValidatorConfig {
+
+    @Bean
+    public PasswordValidatorImpl passwordValidatorImpl() {
+        return new PasswordValidatorImpl();
+    }
+
+    @Bean
+    @Order(100)
+    public BannedSubstringRule bannedSubstringRule(
+            @Value("${password.banned-substrings.location:classpath:"
+                + BannedSubstringRule.DEFAULT_TERMS_RESOURCE + "}") Resource location) {
+        List<String> patterns;
+        try (InputStream input = location.getInputStream()) {
+            patterns = BannedSubstringRule.readPatterns(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao carregar termos proibidos de " + location, e);
+        }
+        BannedSubstringRule rule = new BannedSubstringRule(patterns);
+        log.info("Carregados termos proibidos de {} ({} estados no autômato)", location, rule.getAutomatonSize());
+        return rule;
+    }
+
+    @Bean
+    @Order(200)
+    public UserContextSimilarityRule userContextSimilarityRule(
+            @Value("${password.context-similarity.max-distance:2}") int maxDistance,
+            @Value("${password.context-similarity.min-token-length:3}") int minTokenLength) {
+        return new UserContextSimilarityRule(maxDistance, minTokenLength);
+    }
+
+    @Bean
+    @Primary
+    public PasswordValidatorChain passwordValidatorChain(PasswordValidatorImpl baseValidator,
+                                                         ObjectProvider<PasswordRule> rules) {
+        return new PasswordValidatorChain(baseValidator, rules.orderedStream().toList());
+    }
+}
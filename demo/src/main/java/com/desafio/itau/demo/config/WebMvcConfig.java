@@ -0,0 +1,18 @@
+package com.desafio.itau.demo.config;
+
+import com.desafio.itau.demo.profiling.ResponseWriteEventInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuração do Spring MVC da aplicação.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ResponseWriteEventInterceptor());
+    }
+}
@@ -0,0 +1,36 @@
+package com.desafio.itau.demo.config;
+
+import com.desafio.itau.demo.websocket.IncrementalValidationHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * Configuração do WebSocket de validação incremental.
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    public static final String INCREMENTAL_VALIDATION_PATH = "/ws/password/validate";
+
+    private final IncrementalValidationHandler incrementalValidationHandler;
+
+    // Vazio mantém apenas a mesma origem da aplicação
+    @Value("${password.websocket.allowed-origins:}")
+    private String[] allowedOrigins;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        WebSocketHandlerRegistration registration =
+            registry.addHandler(incrementalValidationHandler, INCREMENTAL_VALIDATION_PATH);
+        if (allowedOrigins.length > 0) {
+            registration.setAllowedOrigins(allowedOrigins);
+        }
+    }
+}
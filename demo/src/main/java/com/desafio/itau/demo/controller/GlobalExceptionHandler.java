@@ -1,7 +1,11 @@
 package com.desafio.itau.demo.controller;
 
+import com.desafio.itau.demo.exception.InvalidRequestParameterException;
+import com.desafio.itau.demo.exception.ProfilingStateException;
 import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.profiling.ValidationStageEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -9,8 +13,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Handler global para tratamento de exceções
@@ -27,14 +30,10 @@ public class GlobalExceptionHandler {
     public ResponseEntity<PasswordValidationResponse> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
         
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach((error) -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(fieldName, errorMessage);
-        });
-        
-        String errorMessage = errors.values().stream().findFirst().orElse("Erro de validação");
+        // Só a primeira mensagem vai para a resposta; as demais não precisam ser coletadas
+        FieldError error = ex.getBindingResult().getFieldError();
+        String errorMessage = error != null && error.getDefaultMessage() != null
+            ? error.getDefaultMessage() : "Erro de validação";
         log.warn("Erro de validação: {}", errorMessage);
         
         return ResponseEntity.badRequest()
@@ -47,6 +46,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(org.springframework.http.converter.HttpMessageNotReadableException.class)
     public ResponseEntity<PasswordValidationResponse> handleHttpMessageNotReadableException(
             org.springframework.http.converter.HttpMessageNotReadableException ex) {
+        ValidationStageEvent.finishBodyRead(ValidationStageEvent.OUTCOME_ERROR);
         log.warn("JSON inválido recebido: {}", ex.getMessage());
         
         return ResponseEntity.badRequest()
@@ -65,6 +65,41 @@ public class GlobalExceptionHandler {
             .body(PasswordValidationResponse.invalid("Tipo de mídia não suportado"));
     }
     
+    /**
+     * Trata parâmetros fora dos limites aceitos (ex.: quantidade de senhas a gerar)
+     */
+    @ExceptionHandler(InvalidRequestParameterException.class)
+    public ResponseEntity<PasswordValidationResponse> handleInvalidRequestParameterException(
+            InvalidRequestParameterException ex) {
+        log.warn("Parâmetro inválido: {}", ex.getMessage());
+        
+        return ResponseEntity.badRequest()
+            .body(PasswordValidationResponse.invalid(ex.getMessage()));
+    }
+    
+    /**
+     * Trata operações de diagnóstico incompatíveis com a gravação atual (ex.: gravação já iniciada)
+     */
+    @ExceptionHandler(ProfilingStateException.class)
+    public ResponseEntity<PasswordValidationResponse> handleProfilingStateException(ProfilingStateException ex) {
+        log.warn("Operação inválida no estado atual: {}", ex.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(PasswordValidationResponse.invalid(ex.getMessage()));
+    }
+    
+    /**
+     * Trata a rejeição de tarefas por um pool saturado (ex.: fila do hash de senhas cheia)
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<PasswordValidationResponse> handleRejectedExecutionException(RejectedExecutionException ex) {
+        log.warn("Requisição rejeitada por saturação: {}", ex.getMessage());
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(PasswordValidationResponse.invalid("Servidor ocupado, tente novamente"));
+    }
+    
     /**
      * Trata exceções genéricas
      */
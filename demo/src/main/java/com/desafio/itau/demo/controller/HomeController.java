@@ -69,6 +69,7 @@ public class HomeController {
                         <li>Ao menos 1 caractere especial (!@#$%^&*()-+)</li>
                         <li>Não possuir caracteres repetidos</li>
                         <li>Não possuir espaços em branco</li>
+                        <li>Não conter termos proibidos (ex.: qwerty, 1234)</li>
                     </ul>
                     
                     <h2>🧪 Exemplo de Uso</h2>
@@ -0,0 +1,91 @@
+package com.desafio.itau.demo.controller;
+
+import com.desafio.itau.demo.exception.InvalidRequestParameterException;
+import com.desafio.itau.demo.generator.PasswordGenerator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Controller REST para geração de senhas temporárias
+ * As senhas são enviadas em streaming, uma por linha, sem montar o lote em memória
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/password")
+@Tag(name = "Geração de Senhas", description = "APIs para geração de senhas que atendem às regras de segurança")
+public class PasswordGenerationController {
+    
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    
+    private final PasswordGenerator passwordGenerator;
+    private final long maxCount;
+    
+    public PasswordGenerationController(PasswordGenerator passwordGenerator,
+                                        @Value("${password.generator.max-count:1000000}") long maxCount) {
+        this.passwordGenerator = passwordGenerator;
+        this.maxCount = maxCount;
+    }
+    
+    /**
+     * Gera senhas temporárias que atendem a todas as regras de validação
+     * 
+     * @param count quantidade de senhas a gerar
+     * @return corpo em streaming com uma senha por linha
+     */
+    @PostMapping(value = "/generate", produces = MediaType.TEXT_PLAIN_VALUE)
+    @Operation(
+        summary = "Gerar senhas",
+        description = "Gera senhas que atendem a todas as regras de validação, uma por linha. " +
+                     "A quantidade é limitada por password.generator.max-count."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Senhas geradas",
+            content = @Content(
+                mediaType = "text/plain",
+                examples = @ExampleObject(value = "k7#QzP2m!xRw-4Ab\nT(9vHd@3nLq+8eJs\n")
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Quantidade fora do intervalo permitido")
+    })
+    public ResponseEntity<StreamingResponseBody> generate(
+            @RequestParam(defaultValue = "1") long count) {
+        
+        if (count < 1 || count > maxCount) {
+            throw new InvalidRequestParameterException(
+                String.format("Quantidade deve estar entre 1 e %d", maxCount));
+        }
+        
+        log.info("Recebida requisição para geração de {} senhas", count);
+        
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.US_ASCII), WRITE_BUFFER_SIZE);
+            passwordGenerator.generate(count, writer);
+            writer.flush();
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.TEXT_PLAIN)
+            .body(body);
+    }
+}
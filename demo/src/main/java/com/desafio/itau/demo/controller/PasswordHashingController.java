@@ -0,0 +1,84 @@
+package com.desafio.itau.demo.controller;
+
+import com.desafio.itau.demo.model.PasswordHashResponse;
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.service.PasswordHashingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Controller REST para validação seguida de hash de senhas
+ * A thread da requisição é liberada enquanto o hash é calculado no pool dedicado
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/password")
+@RequiredArgsConstructor
+@Tag(name = "Validação de Senhas", description = "APIs para validação de senhas seguindo regras de segurança")
+public class PasswordHashingController {
+
+    private final PasswordHashingService passwordHashingService;
+
+    /**
+     * Valida a senha e, se for válida, retorna seu hash
+     *
+     * @param request requisição contendo a senha
+     * @return ResponseEntity com o resultado da validação e o hash
+     */
+    @PostMapping("/validate-and-hash")
+    @Operation(
+        summary = "Validar senha e calcular hash",
+        description = "Aplica as mesmas regras de /api/password/validate e, somente para senhas válidas, " +
+                     "calcula o hash com o algoritmo configurado em password.hash.algorithm (argon2 ou bcrypt). " +
+                     "O hash roda em um pool limitado; com a fila cheia, a requisição é rejeitada com 503."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Senha validada; hash presente apenas se a senha for válida",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = PasswordHashResponse.class),
+                examples = {
+                    @ExampleObject(
+                        name = "Senha Válida",
+                        value = "{\"valid\": true, \"message\": \"Senha válida\", " +
+                                "\"hash\": \"$argon2id$v=19$m=19456,t=2,p=1$c2FsdA$aGFzaA\"}"
+                    ),
+                    @ExampleObject(
+                        name = "Senha Inválida",
+                        value = "{\"valid\": false, \"message\": \"Senha deve ter pelo menos 9 caracteres\", " +
+                                "\"hash\": null}"
+                    )
+                }
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Dados de entrada inválidos"),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Pool de hash saturado; tente novamente após o tempo indicado em Retry-After"
+        )
+    })
+    public CompletableFuture<ResponseEntity<PasswordHashResponse>> validateAndHash(
+            @Valid @RequestBody PasswordValidationRequest request) {
+
+        log.info("Recebida requisição para validação e hash de senha");
+
+        return passwordHashingService.validateAndHash(request).thenApply(ResponseEntity::ok);
+    }
+}
@@ -1,8 +1,10 @@
 package com.desafio.itau.demo.controller;
 
+import com.desafio.itau.demo.exception.InvalidRequestParameterException;
 import com.desafio.itau.demo.model.PasswordValidationRequest;
 import com.desafio.itau.demo.model.PasswordValidationResponse;
 import com.desafio.itau.demo.service.PasswordValidationService;
+import com.desafio.itau.demo.warmup.WarmupRequests;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -10,15 +12,18 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * Controller REST para validação de senhas
  * Expõe a API de validação seguindo as melhores práticas REST
@@ -26,16 +31,26 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 @RestController
 @RequestMapping("/api/password")
-@RequiredArgsConstructor
 @Tag(name = "Validação de Senhas", description = "APIs para validação de senhas seguindo regras de segurança")
 public class PasswordValidationController {
     
     private final PasswordValidationService passwordValidationService;
+    private final WarmupRequests warmupRequests;
+    private final int maxBatchSize;
+    
+    public PasswordValidationController(PasswordValidationService passwordValidationService,
+                                        WarmupRequests warmupRequests,
+                                        @Value("${password.batch.max-size:1000}") int maxBatchSize) {
+        this.passwordValidationService = passwordValidationService;
+        this.warmupRequests = warmupRequests;
+        this.maxBatchSize = maxBatchSize;
+    }
     
     /**
      * Valida se uma senha atende aos critérios de segurança
      * 
      * @param request requisição contendo a senha a ser validada
+     * @param httpRequest requisição HTTP, usada para reconhecer o aquecimento do JIT
      * @return ResponseEntity com o resultado da validação
      */
     @PostMapping("/validate")
@@ -79,12 +94,54 @@ public class PasswordValidationController {
         )
     })
     public ResponseEntity<PasswordValidationResponse> validatePassword(
-            @Valid @RequestBody PasswordValidationRequest request) {
+            @Valid @RequestBody PasswordValidationRequest request, HttpServletRequest httpRequest) {
         
-        log.info("Recebida requisição para validação de senha");
+        log.debug("Recebida requisição para validação de senha");
         
-        PasswordValidationResponse response = passwordValidationService.validatePassword(request);
+        PasswordValidationResponse response = warmupRequests.isWarmup(httpRequest)
+            ? passwordValidationService.validateWarmupPassword(request)
+            : passwordValidationService.validatePassword(request);
         
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Valida um lote de senhas em uma única requisição
+     * 
+     * @param requests requisições contendo as senhas a serem validadas
+     * @return ResponseEntity com os resultados na mesma ordem do lote
+     */
+    @PostMapping("/validate/batch")
+    @Operation(
+        summary = "Validar lote de senhas",
+        description = "Valida várias senhas em uma única requisição, retornando os resultados na mesma ordem. " +
+                     "Cada item é validado de forma independente: senhas vazias resultam em um item inválido, " +
+                     "sem rejeitar o lote. O tamanho do lote é limitado por password.batch.max-size."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote validado com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = "[{\"valid\": true, \"message\": \"Senha válida\"}, " +
+                            "{\"valid\": false, \"message\": \"Senha deve ter pelo menos 9 caracteres\"}]"
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Lote vazio ou maior que o permitido")
+    })
+    public ResponseEntity<List<PasswordValidationResponse>> validatePasswords(
+            @RequestBody List<PasswordValidationRequest> requests) {
+        
+        if (requests.isEmpty() || requests.size() > maxBatchSize) {
+            throw new InvalidRequestParameterException(
+                String.format("Lote deve conter entre 1 e %d senhas", maxBatchSize));
+        }
+        
+        log.info("Recebida requisição para validação de lote com {} senhas", requests.size());
+        
+        return ResponseEntity.ok(passwordValidationService.validatePasswords(requests));
+    }
+}
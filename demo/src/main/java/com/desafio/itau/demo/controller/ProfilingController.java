@@ -0,0 +1,62 @@
+package com.desafio.itau.demo.controller;
+
+import com.desafio.itau.demo.exception.InvalidRequestParameterException;
+import com.desafio.itau.demo.model.ProfilingReport;
+import com.desafio.itau.demo.model.ProfilingStatus;
+import com.desafio.itau.demo.profiling.ProfilingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * Controller administrativo para diagnóstico sob demanda com o JDK Flight Recorder
+ * Permite investigar regressões de latência sem reiniciar a aplicação
+ * Desligado por padrão, pois fica na porta pública: só é registrado com
+ * password.profiling.enabled=true (ex.: perfil dev)
+ */
+@RestController
+@RequestMapping("/api/admin/profiling")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "password.profiling", name = "enabled", havingValue = "true")
+@Tag(name = "Diagnóstico", description = "Gravações do JDK Flight Recorder sob demanda")
+public class ProfilingController {
+    
+    private final ProfilingService profilingService;
+    
+    @PostMapping("/start")
+    @Operation(
+        summary = "Iniciar gravação",
+        description = "Inicia uma gravação limitada em duração e tamanho, com os eventos de etapa da validação habilitados"
+    )
+    public ResponseEntity<ProfilingStatus> start(
+            @RequestParam(defaultValue = "60") long durationSeconds) {
+        if (durationSeconds < 1) {
+            throw new InvalidRequestParameterException("Duração deve ser de pelo menos 1 segundo");
+        }
+        return ResponseEntity.ok(profilingService.start(Duration.ofSeconds(durationSeconds)));
+    }
+    
+    @PostMapping("/stop")
+    @Operation(
+        summary = "Encerrar gravação",
+        description = "Encerra a gravação atual e retorna os métodos quentes, as alocações e as estatísticas por etapa"
+    )
+    public ResponseEntity<ProfilingReport> stop() {
+        return ResponseEntity.ok(profilingService.stop());
+    }
+    
+    @GetMapping
+    @Operation(summary = "Estado da gravação")
+    public ResponseEntity<ProfilingStatus> status() {
+        return ResponseEntity.ok(profilingService.status());
+    }
+}
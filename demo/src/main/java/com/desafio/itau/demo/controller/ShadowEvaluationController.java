@@ -0,0 +1,44 @@
+package com.desafio.itau.demo.controller;
+
+import com.desafio.itau.demo.model.ShadowEvaluationReport;
+import com.desafio.itau.demo.shadow.ShadowEvaluator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller administrativo da avaliação em sombra de políticas candidatas
+ * Mostra quantas requisições reais a candidata trataria de forma diferente antes de ativá-la
+ */
+@RestController
+@RequestMapping("/api/admin/shadow")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "password.shadow", name = "enabled")
+@Tag(name = "Avaliação em sombra", description = "Comparação entre a política atual e uma candidata")
+public class ShadowEvaluationController {
+    
+    private final ShadowEvaluator shadowEvaluator;
+    
+    @GetMapping
+    @Operation(
+        summary = "Matriz de resultados",
+        description = "Retorna a quantidade de avaliações por par de códigos (atual, candidata) e os totais " +
+                     "de senhas que passariam a ser rejeitadas ou aceitas"
+    )
+    public ResponseEntity<ShadowEvaluationReport> report() {
+        return ResponseEntity.ok(shadowEvaluator.report());
+    }
+    
+    @PostMapping("/reset")
+    @Operation(summary = "Zerar contagem", description = "Zera a matriz, por exemplo após mudar a política candidata")
+    public ResponseEntity<ShadowEvaluationReport> reset() {
+        shadowEvaluator.reset();
+        return ResponseEntity.ok(shadowEvaluator.report());
+    }
+}
@@ -0,0 +1,12 @@
+package com.desafio.itau.demo.exception;
+
+/**
+ * Parâmetro de requisição fora dos limites aceitos (ex.: quantidade de senhas a gerar, tamanho do lote)
+ * Respondida com 400 e a mensagem, que deve ser segura para o cliente
+ */
+public class InvalidRequestParameterException extends RuntimeException {
+
+    public InvalidRequestParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.desafio.itau.demo.exception;
+
+/**
+ * Operação de diagnóstico incompatível com a gravação atual (ex.: gravação já iniciada)
+ * Respondida com 409 e a mensagem, que deve ser segura para o cliente
+ */
+public class ProfilingStateException extends RuntimeException {
+
+    public ProfilingStateException(String message) {
+        super(message);
+    }
+}
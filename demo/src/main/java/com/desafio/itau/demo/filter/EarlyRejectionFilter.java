@@ -0,0 +1,338 @@
+package com.desafio.itau.demo.filter;
+
+import com.desafio.itau.demo.audit.AuditLog;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.warmup.WarmupRequests;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rejeita cedo, antes do DispatcherServlet, as requisições de validação que não
+ * poderiam ser atendidas: tipo de mídia não suportado, corpo maior que o limite,
+ * senha maior que o limite ou corpo mal formado
+ *
+ * O corpo é lido no máximo até o limite (sem ler o restante de um envio abusivo)
+ * e percorrido uma vez com o parser de streaming do Jackson, sem databinding.
+ * As respostas de erro são serializadas uma única vez na construção, em JSON, CBOR
+ * e Smile, e escolhidas pelo Accept, então uma requisição rejeitada não passa pelo
+ * Jackson databinding, pela validação de bean nem pelo GlobalExceptionHandler.
+ * Requisições aceitas seguem com o corpo já lido em memória. Rejeições de
+ * requisições de aquecimento não são auditadas.
+ */
+@Slf4j
+public class EarlyRejectionFilter extends OncePerRequestFilter {
+
+    /**
+     * Motivos de rejeição, com o status e a mensagem da resposta
+     */
+    public enum Reason {
+        UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Tipo de mídia não suportado"),
+        BODY_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "Corpo da requisição excede %d bytes"),
+        PASSWORD_TOO_LONG(HttpStatus.BAD_REQUEST, "A senha deve ter no máximo %d caracteres"),
+        MALFORMED_BODY(HttpStatus.BAD_REQUEST, "JSON inválido");
+
+        private final HttpStatus status;
+        private final String message;
+
+        Reason(HttpStatus status, String message) {
+            this.status = status;
+            this.message = message;
+        }
+
+        public HttpStatus getStatus() {
+            return status;
+        }
+    }
+
+    private static final String PASSWORD_FIELD = "password";
+    private static final String SMILE_TYPE = "application/x-jackson-smile";
+
+    private final int maxBodyBytes;
+    private final int maxPasswordLength;
+    // JSON primeiro: é o padrão quando o Accept não pede outra codificação
+    private final Codec[] codecs;
+    private final AuditLog auditLog;
+    private final WarmupRequests warmupRequests;
+    private final LongAdder[] rejected = new LongAdder[Reason.values().length];
+
+    /**
+     * Os mapeadores são os dos conversores do Spring MVC de cada codificação, para que
+     * as respostas de erro saiam no mesmo formato das demais respostas
+     */
+    public EarlyRejectionFilter(ObjectMapper jsonMapper, ObjectMapper cborMapper, ObjectMapper smileMapper,
+                                int maxBodyBytes, int maxPasswordLength,
+                                AuditLog auditLog, WarmupRequests warmupRequests) {
+        if (maxBodyBytes < 1 || maxBodyBytes == Integer.MAX_VALUE || maxPasswordLength < 1) {
+            throw new IllegalArgumentException("Limites de corpo e de senha devem ser positivos");
+        }
+        this.maxBodyBytes = maxBodyBytes;
+        this.maxPasswordLength = maxPasswordLength;
+        this.auditLog = auditLog;
+        this.warmupRequests = warmupRequests;
+        String[] messages = new String[Reason.values().length];
+        for (Reason reason : Reason.values()) {
+            messages[reason.ordinal()] = switch (reason) {
+                case BODY_TOO_LARGE -> String.format(reason.message, maxBodyBytes);
+                case PASSWORD_TOO_LONG -> String.format(reason.message, maxPasswordLength);
+                default -> reason.message;
+            };
+            rejected[reason.ordinal()] = new LongAdder();
+        }
+        this.codecs = new Codec[] {
+            new Codec(MediaType.APPLICATION_JSON_VALUE, jsonMapper, messages),
+            new Codec(MediaType.APPLICATION_CBOR_VALUE, cborMapper, messages),
+            new Codec(SMILE_TYPE, smileMapper, messages)
+        };
+    }
+
+    /**
+     * Requisições rejeitadas pelo motivo informado desde o início da aplicação
+     */
+    public long getRejectedCount(Reason reason) {
+        return rejected[reason.ordinal()].sum();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Codec codec = codecFor(request.getContentType());
+        if (codec == null) {
+            reject(request, response, Reason.UNSUPPORTED_MEDIA_TYPE);
+            return;
+        }
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            reject(request, response, Reason.BODY_TOO_LARGE);
+            return;
+        }
+
+        // Um byte além do limite basta para saber que o corpo não cabe
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            reject(request, response, Reason.BODY_TOO_LARGE);
+            return;
+        }
+        Reason reason = scan(codec.factory, body);
+        if (reason != null) {
+            reject(request, response, reason);
+            return;
+        }
+        chain.doFilter(new BufferedBodyRequest(request, body), response);
+    }
+
+    /**
+     * Percorre o corpo uma vez verificando se é um único valor bem formado e se
+     * nenhum campo "password" passa do limite
+     *
+     * @return motivo da rejeição ou null se o corpo pode seguir
+     */
+    Reason scan(JsonFactory factory, byte[] body) {
+        try (JsonParser parser = factory.createParser(body)) {
+            boolean passwordField = false;
+            while (true) {
+                JsonToken token = parser.nextToken();
+                if (token == null) {
+                    return Reason.MALFORMED_BODY;
+                }
+                if (token == JsonToken.FIELD_NAME) {
+                    passwordField = PASSWORD_FIELD.equals(parser.currentName());
+                } else {
+                    if (passwordField && token == JsonToken.VALUE_STRING
+                            && parser.getTextLength() > maxPasswordLength) {
+                        return Reason.PASSWORD_TOO_LONG;
+                    }
+                    passwordField = false;
+                }
+                if (parser.getParsingContext().inRoot()) {
+                    break;
+                }
+            }
+            // Conteúdo depois do valor raiz também é corpo mal formado
+            return parser.nextToken() == null ? null : Reason.MALFORMED_BODY;
+        } catch (IOException e) {
+            return Reason.MALFORMED_BODY;
+        }
+    }
+
+    private Codec codecFor(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (Codec codec : codecs) {
+            if (isType(contentType, 0, codec.type)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Codificação da resposta de erro: a primeira do Accept que o endpoint negocia,
+     * ou JSON, o padrão do Spring MVC, quando nenhuma é pedida
+     */
+    private Codec codecForAccept(String accept) {
+        if (accept == null) {
+            return codecs[0];
+        }
+        int start = 0;
+        while (start < accept.length()) {
+            while (start < accept.length() && accept.charAt(start) == ' ') {
+                start++;
+            }
+            for (Codec codec : codecs) {
+                if (isType(accept, start, codec.type)) {
+                    return codec;
+                }
+            }
+            int comma = accept.indexOf(',', start);
+            if (comma < 0) {
+                break;
+            }
+            start = comma + 1;
+        }
+        return codecs[0];
+    }
+
+    /**
+     * Compara o tipo a partir de offset, aceitando parâmetros como "; charset=UTF-8"
+     * e o fim de um item do Accept
+     */
+    private static boolean isType(String header, int offset, String type) {
+        if (!header.regionMatches(true, offset, type, 0, type.length())) {
+            return false;
+        }
+        int end = offset + type.length();
+        if (header.length() == end) {
+            return true;
+        }
+        char next = header.charAt(end);
+        return next == ';' || next == ' ' || next == ',';
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Reason reason) throws IOException {
+        rejected[reason.ordinal()].increment();
+        if (!warmupRequests.isWarmup(request)) {
+            auditLog.record(request.getRemoteAddr(), PasswordValidationResponse.CODE_UNSPECIFIED);
+        }
+        log.debug("Requisição rejeitada antes do processamento: {}", reason);
+
+        Codec codec = codecForAccept(request.getHeader(HttpHeaders.ACCEPT));
+        byte[] body = codec.responses[reason.ordinal()];
+        response.setStatus(reason.status.value());
+        response.setContentType(codec.type);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Codificação aceita pelos endpoints: o parser do corpo e as respostas de erro já serializadas
+     */
+    private static final class Codec {
+
+        private final String type;
+        private final JsonFactory factory;
+        private final byte[][] responses;
+
+        private Codec(String type, ObjectMapper objectMapper, String[] messages) {
+            this.type = type;
+            this.factory = objectMapper.getFactory();
+            this.responses = new byte[messages.length][];
+            for (int i = 0; i < messages.length; i++) {
+                try {
+                    responses[i] = objectMapper.writeValueAsBytes(PasswordValidationResponse.invalid(messages[i]));
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Falha ao serializar a resposta de erro em " + type, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Requisição com o corpo já lido, entregue ao restante da cadeia
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Leitura assíncrona do corpo não suportada");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.desafio.itau.demo.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Interface para geração de senhas temporárias
+ * As senhas geradas atendem às regras básicas por construção e não contêm termos proibidos
+ */
+public interface PasswordGenerator {
+    
+    /**
+     * Gera uma senha que atende a todas as regras de validação
+     * 
+     * @return senha gerada
+     */
+    String generate();
+    
+    /**
+     * Gera senhas escrevendo uma por linha, sem criar uma String por senha
+     * 
+     * @param count quantidade de senhas
+     * @param writer destino das senhas
+     */
+    void generate(long count, Writer writer) throws IOException;
+}
@@ -0,0 +1,154 @@
+package com.desafio.itau.demo.generator;
+
+import com.desafio.itau.demo.validator.BannedSubstringRule;
+import com.desafio.itau.demo.validator.PasswordValidatorImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.security.SecureRandom;
+
+/**
+ * Implementação do gerador de senhas
+ * Cada senha atende às regras básicas por construção: um caractere de cada classe
+ * exigida, o restante sorteado sem reposição (sem repetições) e tudo embaralhado.
+ * Um sorteio que forme um termo proibido (ex.: "abcd", "Itau") é descartado e
+ * refeito, com o mesmo autômato da {@link BannedSubstringRule} da API.
+ * Cada thread usa sua própria fonte SecureRandom, sem disputa entre requisições.
+ */
+@Component
+public class PasswordGeneratorImpl implements PasswordGenerator {
+
+    private static final char[] ALPHABET =
+        ("0123456789"
+            + "abcdefghijklmnopqrstuvwxyz"
+            + "ABCDEFGHIJKLMNOPQRSTUVWXYZ"
+            + PasswordValidatorImpl.SPECIAL_CHARACTERS).toCharArray();
+
+    // Limites de cada classe no alfabeto: dígitos, minúsculas, maiúsculas e especiais
+    private static final int[] CLASS_BOUNDS = {0, 10, 36, 62, ALPHABET.length};
+    private static final int CLASS_COUNT = CLASS_BOUNDS.length - 1;
+
+    private final int length;
+    private final BannedSubstringRule bannedSubstringRule;
+    private final ThreadLocal<GenerationState> state;
+
+    public PasswordGeneratorImpl(int length) {
+        this(length, BannedSubstringRule.withDefaultTerms());
+    }
+
+    @Autowired
+    public PasswordGeneratorImpl(@Value("${password.generator.length:16}") int length,
+                                 BannedSubstringRule bannedSubstringRule) {
+        if (length < PasswordValidatorImpl.MIN_LENGTH || length > ALPHABET.length) {
+            throw new IllegalArgumentException(String.format(
+                "Comprimento das senhas geradas deve estar entre %d e %d",
+                PasswordValidatorImpl.MIN_LENGTH, ALPHABET.length));
+        }
+        this.length = length;
+        this.bannedSubstringRule = bannedSubstringRule;
+        this.state = ThreadLocal.withInitial(() -> new GenerationState(length));
+    }
+
+    @Override
+    public String generate() {
+        GenerationState current = state.get();
+        fill(current);
+        return new String(current.password, 0, length);
+    }
+
+    @Override
+    public void generate(long count, Writer writer) throws IOException {
+        GenerationState current = state.get();
+        for (long i = 0; i < count; i++) {
+            fill(current);
+            writer.write(current.password, 0, length + 1);
+        }
+    }
+
+    /**
+     * Preenche o buffer da thread com uma nova senha sem termos proibidos
+     */
+    private void fill(GenerationState current) {
+        do {
+            draw(current);
+        } while (bannedSubstringRule.containsBannedTerm(current.text));
+    }
+
+    /**
+     * Sorteia uma senha que atende às regras básicas no buffer da thread
+     */
+    private void draw(GenerationState current) {
+        char[] pool = current.pool;
+        char[] password = current.password;
+        System.arraycopy(ALPHABET, 0, pool, 0, ALPHABET.length);
+        int available = pool.length;
+
+        // Um caractere de cada classe. As classes são percorridas do fim para o início
+        // para que a remoção por troca com o último elemento não afete as classes seguintes
+        for (int c = CLASS_COUNT - 1; c >= 0; c--) {
+            int from = CLASS_BOUNDS[c];
+            int index = from + current.nextInt(CLASS_BOUNDS[c + 1] - from);
+            password[c] = pool[index];
+            pool[index] = pool[--available];
+        }
+
+        // Restante sorteado sem reposição entre os caracteres ainda não usados
+        for (int i = CLASS_COUNT; i < length; i++) {
+            int index = current.nextInt(available);
+            password[i] = pool[index];
+            pool[index] = pool[--available];
+        }
+
+        // Fisher-Yates para não deixar as classes em posições fixas
+        for (int i = length - 1; i > 0; i--) {
+            int j = current.nextInt(i + 1);
+            char tmp = password[i];
+            password[i] = password[j];
+            password[j] = tmp;
+        }
+    }
+
+    /**
+     * Estado de geração de uma thread: fonte aleatória com bytes em buffer e áreas de trabalho
+     */
+    private static final class GenerationState {
+
+        private static final int RANDOM_BUFFER_SIZE = 4096;
+
+        private final SecureRandom random = new SecureRandom();
+        private final byte[] randomBytes = new byte[RANDOM_BUFFER_SIZE];
+        private int position = RANDOM_BUFFER_SIZE;
+
+        private final char[] pool = new char[ALPHABET.length];
+        private final char[] password;
+        // Visão da senha no buffer, sem a quebra de linha, para a busca de termos proibidos
+        private final CharBuffer text;
+
+        GenerationState(int length) {
+            password = new char[length + 1];
+            password[length] = '\n';
+            text = CharBuffer.wrap(password, 0, length);
+        }
+
+        /**
+         * Inteiro uniforme em [0, bound) para bound <= 256, por rejeição sobre um byte
+         */
+        int nextInt(int bound) {
+            int limit = 256 - (256 % bound);
+            while (true) {
+                if (position == RANDOM_BUFFER_SIZE) {
+                    random.nextBytes(randomBytes);
+                    position = 0;
+                }
+                int value = randomBytes[position++] & 0xFF;
+                if (value < limit) {
+                    return value % bound;
+                }
+            }
+        }
+    }
+}
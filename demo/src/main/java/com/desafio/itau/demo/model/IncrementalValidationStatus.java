@@ -0,0 +1,53 @@
+package com.desafio.itau.demo.model;
+
+import com.desafio.itau.demo.validator.IncrementalPasswordState;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Status enviado pelo WebSocket de validação incremental após cada edição
+ * Traz o resultado geral e a situação de cada regra básica, para a página
+ * exibir a lista de requisitos enquanto o usuário digita; a senha não é devolvida
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IncrementalValidationStatus {
+
+    private Long seq;
+
+    private boolean valid;
+
+    private String message;
+
+    private int length;
+
+    private boolean minLength;
+
+    private boolean digit;
+
+    private boolean lowercase;
+
+    private boolean uppercase;
+
+    private boolean special;
+
+    private boolean noWhitespace;
+
+    private boolean noRepeatedCharacters;
+
+    public static IncrementalValidationStatus of(Long seq, IncrementalPasswordState state,
+                                                 PasswordValidationResponse response) {
+        return new IncrementalValidationStatus(seq, response.isValid(), response.getMessage(), state.length(),
+            state.hasMinLength(), state.hasDigit(), state.hasLowercase(), state.hasUppercase(),
+            state.hasSpecial(), !state.hasWhitespace(), !state.hasRepeatedCharacters());
+    }
+
+    public static IncrementalValidationStatus error(Long seq, String message) {
+        IncrementalValidationStatus status = new IncrementalValidationStatus();
+        status.setSeq(seq);
+        status.setMessage(message);
+        return status;
+    }
+}
@@ -0,0 +1,32 @@
+package com.desafio.itau.demo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Mensagem do WebSocket de validação incremental com uma edição da senha
+ *
+ * Operações: "insert" (text na posição position), "delete" (count caracteres a
+ * partir de position) e "reset" (substitui todo o texto por text).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordEditMessage {
+
+    public static final String INSERT = "insert";
+    public static final String DELETE = "delete";
+    public static final String RESET = "reset";
+
+    // Número de sequência opcional, devolvido no status para o cliente descartar respostas antigas
+    private Long seq;
+
+    private String op;
+
+    private int position;
+
+    private int count;
+
+    private String text;
+}
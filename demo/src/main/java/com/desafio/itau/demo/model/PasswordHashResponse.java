@@ -0,0 +1,42 @@
+package com.desafio.itau.demo.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para resposta de validação seguida de hash da senha
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado da validação e, para senhas válidas, o hash calculado")
+public class PasswordHashResponse {
+
+    @Schema(description = "Indica se a senha é válida", example = "true")
+    private boolean valid;
+
+    @Schema(description = "Mensagem descritiva do resultado da validação", example = "Senha válida")
+    private String message;
+
+    @Schema(
+        description = "Hash da senha no formato do algoritmo configurado; ausente para senhas inválidas",
+        example = "$argon2id$v=19$m=19456,t=2,p=1$c2FsdA$aGFzaA"
+    )
+    private String hash;
+
+    // Código do resultado da validação, usado pela auditoria; fica fora da resposta
+    @JsonIgnore
+    @Schema(hidden = true)
+    private int code;
+
+    public static PasswordHashResponse hashed(PasswordValidationResponse validation, String hash) {
+        return new PasswordHashResponse(validation.isValid(), validation.getMessage(), hash, validation.getCode());
+    }
+
+    public static PasswordHashResponse notHashed(PasswordValidationResponse validation) {
+        return new PasswordHashResponse(validation.isValid(), validation.getMessage(), null, validation.getCode());
+    }
+}
@@ -0,0 +1,66 @@
+package com.desafio.itau.demo.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO com o resumo de uma gravação do JDK Flight Recorder
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resumo da gravação de diagnóstico")
+public class ProfilingReport {
+    
+    @Schema(description = "Duração efetiva da gravação em milissegundos", example = "30000")
+    private long durationMillis;
+    
+    @Schema(description = "Métodos com mais amostras de execução")
+    private List<MethodSamples> hotMethods;
+    
+    @Schema(description = "Métodos que mais alocaram memória (estimativa por amostragem)")
+    private List<AllocationSite> allocations;
+    
+    @Schema(description = "Estatísticas por etapa da validação e resultado")
+    private List<StageSummary> stages;
+    
+    /**
+     * Quantidade de amostras de execução com o método no topo da pilha
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MethodSamples {
+        private String method;
+        private long samples;
+    }
+    
+    /**
+     * Bytes alocados estimados com o método no topo da pilha
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AllocationSite {
+        private String method;
+        private long bytes;
+    }
+    
+    /**
+     * Estatísticas de duração de uma etapa com um determinado resultado
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StageSummary {
+        private String stage;
+        private String outcome;
+        private long count;
+        private long averageNanos;
+        private long maxNanos;
+    }
+}
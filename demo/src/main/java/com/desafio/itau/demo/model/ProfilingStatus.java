@@ -0,0 +1,31 @@
+package com.desafio.itau.demo.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO com o estado da gravação de diagnóstico do JDK Flight Recorder
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estado da gravação de diagnóstico")
+public class ProfilingStatus {
+    
+    @Schema(description = "Indica se há uma gravação em andamento", example = "true")
+    private boolean recording;
+    
+    @Schema(description = "Instante de início da gravação atual")
+    private Instant startedAt;
+    
+    @Schema(description = "Duração máxima da gravação em segundos", example = "60")
+    private long maxDurationSeconds;
+    
+    public static ProfilingStatus idle() {
+        return new ProfilingStatus(false, null, 0);
+    }
+}
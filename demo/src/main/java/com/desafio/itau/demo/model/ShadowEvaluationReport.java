@@ -0,0 +1,61 @@
+package com.desafio.itau.demo.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO com a comparação entre a política atual e a candidata
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado da avaliação em sombra da política candidata")
+public class ShadowEvaluationReport {
+
+    @Schema(description = "Versão da política atual", example = "1")
+    private int currentPolicyVersion;
+
+    @Schema(description = "Versão da política candidata", example = "2")
+    private int candidatePolicyVersion;
+
+    @Schema(description = "Fração das requisições avaliadas pela candidata", example = "0.05")
+    private double sampleRate;
+
+    @Schema(description = "Início da contagem (inicialização ou último reset)")
+    private Instant since;
+
+    @Schema(description = "Requisições sorteadas para avaliação", example = "5000")
+    private long sampled;
+
+    @Schema(description = "Requisições avaliadas pela candidata", example = "4990")
+    private long evaluated;
+
+    @Schema(description = "Avaliações descartadas por fila cheia", example = "10")
+    private long dropped;
+
+    @Schema(description = "Senhas aceitas hoje que a candidata rejeitaria", example = "620")
+    private long newlyRejected;
+
+    @Schema(description = "Senhas rejeitadas hoje que a candidata aceitaria", example = "0")
+    private long newlyAccepted;
+
+    @Schema(description = "Quantidade por par de códigos (atual, candidata), da mais frequente para a menos")
+    private List<OutcomePair> matrix;
+
+    /**
+     * Quantidade de avaliações com um par de códigos de resultado
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OutcomePair {
+        private int currentCode;
+        private int candidateCode;
+        private long count;
+    }
+}
@@ -0,0 +1,35 @@
+package com.desafio.itau.demo.profiling;
+
+import com.desafio.itau.demo.exception.ProfilingStateException;
+import com.desafio.itau.demo.model.ProfilingReport;
+import com.desafio.itau.demo.model.ProfilingStatus;
+
+import java.time.Duration;
+
+/**
+ * Interface do service de diagnóstico sob demanda com o JDK Flight Recorder
+ */
+public interface ProfilingService {
+    
+    /**
+     * Inicia uma gravação limitada em duração e tamanho
+     * 
+     * @param duration duração desejada, limitada ao máximo configurado
+     * @return estado da gravação iniciada
+     * @throws ProfilingStateException se já houver uma gravação em andamento
+     */
+    ProfilingStatus start(Duration duration);
+    
+    /**
+     * Encerra a gravação atual e resume métodos quentes, alocações e etapas
+     * 
+     * @return resumo da gravação
+     * @throws ProfilingStateException se não houver gravação iniciada
+     */
+    ProfilingReport stop();
+    
+    /**
+     * @return estado da gravação atual
+     */
+    ProfilingStatus status();
+}
@@ -0,0 +1,199 @@
+package com.desafio.itau.demo.profiling;
+
+import com.desafio.itau.demo.exception.ProfilingStateException;
+import com.desafio.itau.demo.model.ProfilingReport;
+import com.desafio.itau.demo.model.ProfilingStatus;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementação do diagnóstico sob demanda
+ * Usa as configurações "profile" do JDK e habilita os eventos de etapa da validação
+ */
+@Slf4j
+@Service
+public class ProfilingServiceImpl implements ProfilingService {
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private final int topEntries;
+
+    private Recording recording;
+    private Instant startedAt;
+
+    public ProfilingServiceImpl(
+            @Value("${password.profiling.max-duration:5m}") Duration maxDuration,
+            @Value("${password.profiling.max-size:64MB}") DataSize maxSize,
+            @Value("${password.profiling.top-entries:15}") int topEntries) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+        this.topEntries = topEntries;
+    }
+
+    @Override
+    public synchronized ProfilingStatus start(Duration duration) {
+        if (recording != null) {
+            throw new ProfilingStateException("Já existe uma gravação de diagnóstico em andamento");
+        }
+
+        Duration bounded = duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        Recording newRecording = new Recording(loadProfileConfiguration());
+        newRecording.setName("diagnostico-validacao");
+        newRecording.setDuration(bounded);
+        newRecording.setMaxSize(maxSize.toBytes());
+        newRecording.setToDisk(true);
+        newRecording.enable(ValidationStageEvent.NAME).withoutThreshold();
+        newRecording.start();
+
+        recording = newRecording;
+        startedAt = Instant.now();
+        log.info("Gravação de diagnóstico iniciada por {} segundos", bounded.toSeconds());
+
+        return new ProfilingStatus(true, startedAt, bounded.toSeconds());
+    }
+
+    @Override
+    public synchronized ProfilingReport stop() {
+        if (recording == null) {
+            throw new ProfilingStateException("Nenhuma gravação de diagnóstico em andamento");
+        }
+
+        Recording current = recording;
+        Instant begin = startedAt;
+        recording = null;
+        startedAt = null;
+
+        Path file = null;
+        try {
+            if (current.getState() == RecordingState.RUNNING) {
+                current.stop();
+            }
+            file = Files.createTempFile("diagnostico-validacao", ".jfr");
+            current.dump(file);
+
+            long durationMillis = Duration.between(begin, Instant.now()).toMillis();
+            log.info("Gravação de diagnóstico encerrada após {} ms", durationMillis);
+            return summarize(file, durationMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler a gravação de diagnóstico", e);
+        } finally {
+            current.close();
+            deleteQuietly(file);
+        }
+    }
+
+    @Override
+    public synchronized ProfilingStatus status() {
+        if (recording == null) {
+            return ProfilingStatus.idle();
+        }
+        return new ProfilingStatus(
+            recording.getState() == RecordingState.RUNNING, startedAt, recording.getDuration().toSeconds());
+    }
+
+    private ProfilingReport summarize(Path file, long durationMillis) throws IOException {
+        Map<String, Long> samplesByMethod = new HashMap<>();
+        Map<String, Long> bytesByMethod = new HashMap<>();
+        Map<String, long[]> stages = new HashMap<>();
+
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                String type = event.getEventType().getName();
+
+                if (EXECUTION_SAMPLE.equals(type)) {
+                    samplesByMethod.merge(topFrame(event), 1L, Long::sum);
+                } else if (ALLOCATION_SAMPLE.equals(type)) {
+                    bytesByMethod.merge(topFrame(event), event.getLong("weight"), Long::sum);
+                } else if (ValidationStageEvent.NAME.equals(type)) {
+                    String key = event.getString("stage") + '|' + event.getString("outcome");
+                    long nanos = event.getDuration().toNanos();
+                    long[] stats = stages.computeIfAbsent(key, k -> new long[3]);
+                    stats[0]++;
+                    stats[1] += nanos;
+                    stats[2] = Math.max(stats[2], nanos);
+                }
+            }
+        }
+
+        List<ProfilingReport.MethodSamples> hotMethods = top(samplesByMethod).stream()
+            .map(e -> new ProfilingReport.MethodSamples(e.getKey(), e.getValue()))
+            .toList();
+        List<ProfilingReport.AllocationSite> allocations = top(bytesByMethod).stream()
+            .map(e -> new ProfilingReport.AllocationSite(e.getKey(), e.getValue()))
+            .toList();
+        List<ProfilingReport.StageSummary> stageSummaries = new ArrayList<>();
+        stages.forEach((key, stats) -> {
+            int separator = key.indexOf('|');
+            stageSummaries.add(new ProfilingReport.StageSummary(
+                key.substring(0, separator), key.substring(separator + 1),
+                stats[0], stats[1] / stats[0], stats[2]));
+        });
+        stageSummaries.sort(Comparator.comparing(ProfilingReport.StageSummary::getStage)
+            .thenComparing(ProfilingReport.StageSummary::getOutcome));
+
+        return new ProfilingReport(durationMillis, hotMethods, allocations, stageSummaries);
+    }
+
+    private List<Map.Entry<String, Long>> top(Map<String, Long> values) {
+        return values.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .limit(topEntries)
+            .toList();
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "desconhecido";
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        RecordedMethod method = frame.getMethod();
+        return method.getType().getName() + "." + method.getName();
+    }
+
+    private static Configuration loadProfileConfiguration() {
+        try {
+            return Configuration.getConfiguration("profile");
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Configuração \"profile\" do JDK Flight Recorder indisponível", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o arquivo temporário {}", file, e);
+        }
+    }
+}
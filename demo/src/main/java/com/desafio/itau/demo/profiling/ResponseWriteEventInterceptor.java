@@ -0,0 +1,20 @@
+package com.desafio.itau.demo.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Encerra o {@link ValidationStageEvent} de escrita da resposta iniciado no
+ * {@link StageEventBodyAdvice}, depois que o corpo já foi serializado
+ */
+public class ResponseWriteEventInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        ValidationStageEvent.finishBodyWrite(ex == null
+            ? ValidationStageEvent.OUTCOME_PASSED
+            : ValidationStageEvent.OUTCOME_ERROR);
+    }
+}
@@ -0,0 +1,22 @@
+package com.desafio.itau.demo.service;
+
+import com.desafio.itau.demo.model.PasswordHashResponse;
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Interface do service de validação seguida de hash de senhas
+ */
+public interface PasswordHashingService {
+
+    /**
+     * Valida a senha e, somente se for válida, calcula o hash no pool dedicado
+     *
+     * @param request requisição contendo a senha
+     * @return future completado com o resultado da validação e o hash
+     * @throws RejectedExecutionException se a fila do pool de hash estiver cheia
+     */
+    CompletableFuture<PasswordHashResponse> validateAndHash(PasswordValidationRequest request);
+}
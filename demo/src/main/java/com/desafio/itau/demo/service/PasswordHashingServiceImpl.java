@@ -0,0 +1,50 @@
+package com.desafio.itau.demo.service;
+
+import com.desafio.itau.demo.config.HashingConfig;
+import com.desafio.itau.demo.model.PasswordHashResponse;
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Implementação do service de validação seguida de hash
+ * A validação, barata, roda na thread da requisição; o hash, caro em CPU e
+ * memória, roda no pool dedicado e só para senhas válidas
+ */
+@Slf4j
+@Service
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private final PasswordValidationService passwordValidationService;
+    private final PasswordEncoder passwordEncoder;
+    private final Executor hashExecutor;
+
+    public PasswordHashingServiceImpl(PasswordValidationService passwordValidationService,
+                                      PasswordEncoder passwordEncoder,
+                                      @Qualifier(HashingConfig.HASH_EXECUTOR) Executor hashExecutor) {
+        this.passwordValidationService = passwordValidationService;
+        this.passwordEncoder = passwordEncoder;
+        this.hashExecutor = hashExecutor;
+    }
+
+    @Override
+    public CompletableFuture<PasswordHashResponse> validateAndHash(PasswordValidationRequest request) {
+        PasswordValidationResponse validation = passwordValidationService.validatePassword(request);
+
+        if (!validation.isValid()) {
+            return CompletableFuture.completedFuture(PasswordHashResponse.notHashed(validation));
+        }
+
+        String password = request.getPassword();
+        return CompletableFuture.supplyAsync(() -> {
+            log.debug("Calculando hash de senha válida");
+            return PasswordHashResponse.hashed(validation, passwordEncoder.encode(password));
+        }, hashExecutor);
+    }
+}
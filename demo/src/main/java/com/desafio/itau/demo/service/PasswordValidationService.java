@@ -0,0 +1,38 @@
+package com.desafio.itau.demo.service;
+
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+
+import java.util.List;
+
+/**
+ * Interface do service de validação de senhas
+ * Segue o princípio de inversão de dependência (SOLID)
+ */
+public interface PasswordValidationService {
+    
+    /**
+     * Valida uma senha baseada na requisição
+     * 
+     * @param request requisição contendo a senha a ser validada
+     * @return PasswordValidationResponse com o resultado da validação
+     */
+    PasswordValidationResponse validatePassword(PasswordValidationRequest request);
+    
+    /**
+     * Valida uma senha enviada pelo aquecimento do JIT
+     * Mesmo caminho de validatePassword, mas sem verificações externas e fora da avaliação em sombra
+     * 
+     * @param request requisição sintética de aquecimento
+     * @return PasswordValidationResponse com o resultado da validação
+     */
+    PasswordValidationResponse validateWarmupPassword(PasswordValidationRequest request);
+    
+    /**
+     * Valida um lote de senhas
+     * 
+     * @param requests requisições contendo as senhas a serem validadas
+     * @return respostas na mesma ordem das requisições
+     */
+    List<PasswordValidationResponse> validatePasswords(List<PasswordValidationRequest> requests);
+} 
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.desafio.itau.demo.service;
+
+import com.desafio.itau.demo.check.PasswordCheckRunner;
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.UserContext;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import com.desafio.itau.demo.profiling.ValidationStageEvent;
+import com.desafio.itau.demo.shadow.ShadowEvaluator;
+import com.desafio.itau.demo.validator.PasswordValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementação do service de validação de senhas
+ * Orquestra a validação delegando para o validador específico; senhas aprovadas
+ * pelas regras locais seguem para as verificações externas, quando registradas.
+ * Quando configurada, entrega a senha à avaliação em sombra da política candidata
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PasswordValidationServiceImpl implements PasswordValidationService {
+    
+    private final PasswordValidator passwordValidator;
+    
+    // Ausente quando a avaliação em sombra está desligada
+    @Nullable
+    private final ShadowEvaluator shadowEvaluator;
+    
+    // Nulo ou vazio: só as regras locais
+    @Nullable
+    private final PasswordCheckRunner checkRunner;
+    
+    @Override
+    public PasswordValidationResponse validatePassword(PasswordValidationRequest request) {
+        return validate(request, false);
+    }
+    
+    @Override
+    public PasswordValidationResponse validateWarmupPassword(PasswordValidationRequest request) {
+        return validate(request, true);
+    }
+    
+    private PasswordValidationResponse validate(PasswordValidationRequest request, boolean warmup) {
+        log.debug("Iniciando validação de senha");
+        
+        ValidationStageEvent event = ValidationStageEvent.start(ValidationStageEvent.STAGE_SERVICE);
+        try {
+            PasswordValidationResponse localResponse = validateLocally(request, warmup);
+            // Reprovações locais e o aquecimento encerram aqui, sem disparar verificações externas
+            PasswordValidationResponse response = !hasChecks() || warmup ? localResponse
+                : checkRunner.run(request.getPassword(), request.getContext(), localResponse);
+            return finish(event, response);
+            
+        } catch (Exception e) {
+            return error(event, e);
+        }
+    }
+    
+    @Override
+    public List<PasswordValidationResponse> validatePasswords(List<PasswordValidationRequest> requests) {
+        log.info("Iniciando validação de lote com {} senhas", requests.size());
+        
+        int size = requests.size();
+        ValidationStageEvent[] events = new ValidationStageEvent[size];
+        List<String> passwords = new ArrayList<>(size);
+        List<UserContext> contexts = new ArrayList<>(size);
+        List<PasswordValidationResponse> localResponses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            PasswordValidationRequest request = requests.get(i);
+            events[i] = ValidationStageEvent.start(ValidationStageEvent.STAGE_SERVICE);
+            if (request == null) {
+                // Um elemento nulo no array do lote é um item sem senha, não uma falha do lote
+                passwords.add(null);
+                contexts.add(null);
+                localResponses.add(ValidationOutcome.EMPTY.toResponse());
+                continue;
+            }
+            passwords.add(request.getPassword());
+            contexts.add(request.getContext());
+            try {
+                localResponses.add(validateLocally(request, false));
+            } catch (Exception e) {
+                localResponses.add(error(events[i], e));
+                events[i] = null;
+            }
+        }
+        
+        // As verificações externas do lote inteiro correm juntas, sob um único prazo
+        List<PasswordValidationResponse> responses = !hasChecks() ? localResponses
+            : checkRunner.runAll(passwords, contexts, localResponses);
+        for (int i = 0; i < size; i++) {
+            if (events[i] != null) {
+                finish(events[i], responses.get(i));
+            }
+        }
+        return responses;
+    }
+    
+    /**
+     * Aplica as regras locais e entrega o resultado à avaliação em sombra
+     */
+    private PasswordValidationResponse validateLocally(PasswordValidationRequest request, boolean warmup) {
+        PasswordValidationResponse localResponse = request.getContext() == null
+            ? passwordValidator.validate(request.getPassword())
+            : passwordValidator.validate(request.getPassword(), request.getContext());
+        if (shadowEvaluator != null && !warmup) {
+            // A candidata só tem regras locais: compara com o resultado local
+            shadowEvaluator.submit(request.getPassword(), request.getContext(), localResponse.getCode());
+        }
+        return localResponse;
+    }
+    
+    private boolean hasChecks() {
+        return checkRunner != null && !checkRunner.isEmpty();
+    }
+    
+    private static PasswordValidationResponse finish(ValidationStageEvent event, PasswordValidationResponse response) {
+        if (response.isValid()) {
+            log.debug("Senha validada com sucesso");
+        } else {
+            log.debug("Senha inválida: {}", response.getMessage());
+        }
+        event.finish(response.isValid());
+        return response;
+    }
+    
+    private static PasswordValidationResponse error(ValidationStageEvent event, Exception e) {
+        log.error("Erro durante a validação da senha", e);
+        event.finish(ValidationStageEvent.OUTCOME_ERROR);
+        return PasswordValidationResponse.invalid("Erro interno durante a validação");
+    }
+}
@@ -0,0 +1,31 @@
+package com.desafio.itau.demo.shadow;
+
+import com.desafio.itau.demo.model.ShadowEvaluationReport;
+import com.desafio.itau.demo.model.UserContext;
+
+/**
+ * Avaliação em sombra de uma política de senhas candidata
+ * Compara, fora do caminho da requisição, o resultado atual com o que a candidata retornaria
+ */
+public interface ShadowEvaluator {
+
+    /**
+     * Agenda a avaliação da senha pela política candidata, se ela cair na amostra
+     * Nunca bloqueia: com a fila cheia a avaliação é descartada
+     *
+     * @param password senha já validada pela política atual
+     * @param context dados do usuário usados pela política atual; nulo quando ausentes
+     * @param currentCode código do resultado da política atual
+     */
+    void submit(String password, UserContext context, int currentCode);
+
+    /**
+     * @return matriz de resultados (atual x candidata) e contadores desde o último reset
+     */
+    ShadowEvaluationReport report();
+
+    /**
+     * Zera a matriz e os contadores
+     */
+    void reset();
+}
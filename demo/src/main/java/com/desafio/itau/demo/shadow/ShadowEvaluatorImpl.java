@@ -0,0 +1,130 @@
+package com.desafio.itau.demo.shadow;
+
+import com.desafio.itau.demo.model.ShadowEvaluationReport;
+import com.desafio.itau.demo.model.UserContext;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import com.desafio.itau.demo.validator.PasswordValidator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Avaliação em sombra com amostragem e fila limitada
+ *
+ * A thread da requisição só sorteia a amostra e enfileira a senha; a política
+ * candidata roda em uma thread própria. Com a fila cheia a avaliação é
+ * descartada e contada, sem esperar. A candidata recebe os mesmos dados do
+ * usuário que a política atual. A senha fica apenas na fila em memória,
+ * nunca em logs ou no relatório, que traz somente os códigos de resultado.
+ */
+@Slf4j
+public class ShadowEvaluatorImpl implements ShadowEvaluator, AutoCloseable {
+
+    private static final int VALID_CODE = ValidationOutcome.VALID.getCode();
+
+    private final PasswordValidator candidate;
+    private final int currentPolicyVersion;
+    private final int candidatePolicyVersion;
+    private final double sampleRate;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<Long, LongAdder> matrix = new ConcurrentHashMap<>();
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder evaluated = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile Instant since = Instant.now();
+
+    public ShadowEvaluatorImpl(PasswordValidator candidate, int currentPolicyVersion, int candidatePolicyVersion,
+                               double sampleRate, int queueCapacity) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Taxa de amostragem deve estar entre 0 e 1: " + sampleRate);
+        }
+        this.candidate = candidate;
+        this.currentPolicyVersion = currentPolicyVersion;
+        this.candidatePolicyVersion = candidatePolicyVersion;
+        this.sampleRate = sampleRate;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-shadow-evaluator");
+                thread.setDaemon(true);
+                return thread;
+            },
+            (runnable, executor) -> dropped.increment());
+        log.info("Avaliação em sombra da política {} em {}% das requisições",
+            candidatePolicyVersion, sampleRate * 100);
+    }
+
+    @Override
+    public void submit(String password, UserContext context, int currentCode) {
+        if (password == null || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        sampled.increment();
+        executor.execute(() -> evaluate(password, context, currentCode));
+    }
+
+    @Override
+    public ShadowEvaluationReport report() {
+        // Contadores lidos antes da matriz: cada avaliação entra na matriz antes de
+        // ser contada, então o relatório nunca conta mais do que a matriz mostra
+        long sampledCount = sampled.sum();
+        long evaluatedCount = evaluated.sum();
+        long droppedCount = dropped.sum();
+        List<ShadowEvaluationReport.OutcomePair> pairs = new ArrayList<>(matrix.size());
+        long newlyRejected = 0;
+        long newlyAccepted = 0;
+        for (Map.Entry<Long, LongAdder> cell : matrix.entrySet()) {
+            int currentCode = (int) (cell.getKey() >> 32);
+            int candidateCode = (int) (long) cell.getKey();
+            long count = cell.getValue().sum();
+            pairs.add(new ShadowEvaluationReport.OutcomePair(currentCode, candidateCode, count));
+            if (currentCode == VALID_CODE && candidateCode != VALID_CODE) {
+                newlyRejected += count;
+            } else if (currentCode != VALID_CODE && candidateCode == VALID_CODE) {
+                newlyAccepted += count;
+            }
+        }
+        pairs.sort(Comparator.comparingLong(ShadowEvaluationReport.OutcomePair::getCount).reversed());
+
+        return new ShadowEvaluationReport(currentPolicyVersion, candidatePolicyVersion, sampleRate, since,
+            sampledCount, evaluatedCount, droppedCount, newlyRejected, newlyAccepted, pairs);
+    }
+
+    @Override
+    public void reset() {
+        matrix.clear();
+        sampled.reset();
+        evaluated.reset();
+        dropped.reset();
+        since = Instant.now();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void evaluate(String password, UserContext context, int currentCode) {
+        try {
+            int candidateCode = (context == null
+                ? candidate.validate(password)
+                : candidate.validate(password, context)).getCode();
+            long key = ((long) currentCode << 32) | (candidateCode & 0xFFFFFFFFL);
+            matrix.computeIfAbsent(key, k -> new LongAdder()).increment();
+            evaluated.increment();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao avaliar a política candidata", e);
+        }
+    }
+}
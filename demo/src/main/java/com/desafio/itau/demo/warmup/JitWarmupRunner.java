@@ -0,0 +1,193 @@
+package com.desafio.itau.demo.warmup;
+
+import com.desafio.itau.demo.generator.PasswordGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aquecimento do JIT antes de a aplicação aceitar tráfego
+ *
+ * Envia uma mistura sintética de requisições pelo servidor embarcado real
+ * (contêiner servlet, Jackson, dispatch do Spring MVC, service e validadores) até que o
+ * tempo de compilação do JIT se estabilize ou o orçamento de tempo acabe.
+ * Roda como {@link ApplicationRunner}: o Spring Boot só publica
+ * {@code ReadinessState.ACCEPTING_TRAFFIC} depois que os runners terminam,
+ * e o {@link WarmupHealthIndicator} mantém o grupo de readiness fora do ar até lá.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "password.warmup", name = "enabled", matchIfMissing = true)
+public class JitWarmupRunner implements ApplicationRunner {
+
+    /**
+     * Cabeçalho que identifica as requisições de aquecimento; o valor é o token de {@link WarmupRequests}
+     */
+    public static final String WARMUP_HEADER = "X-Warmup";
+
+    private static final String VALIDATE_PATH = "/api/password/validate";
+
+    private final PasswordGenerator passwordGenerator;
+    private final WarmupHealthIndicator healthIndicator;
+    private final WarmupRequests warmupRequests;
+    private final Environment environment;
+    private final Duration timeBudget;
+    private final int requestsPerRound;
+    private final int concurrency;
+    private final Duration stableCompilationDelta;
+    private final int stableRounds;
+
+    public JitWarmupRunner(PasswordGenerator passwordGenerator,
+                           WarmupHealthIndicator healthIndicator,
+                           WarmupRequests warmupRequests,
+                           Environment environment,
+                           @Value("${password.warmup.time-budget:30s}") Duration timeBudget,
+                           @Value("${password.warmup.requests-per-round:2000}") int requestsPerRound,
+                           @Value("${password.warmup.concurrency:4}") int concurrency,
+                           @Value("${password.warmup.stable-compilation-delta:20ms}") Duration stableCompilationDelta,
+                           @Value("${password.warmup.stable-rounds:3}") int stableRounds) {
+        this.passwordGenerator = passwordGenerator;
+        this.healthIndicator = healthIndicator;
+        this.warmupRequests = warmupRequests;
+        this.environment = environment;
+        this.timeBudget = timeBudget;
+        this.requestsPerRound = requestsPerRound;
+        this.concurrency = concurrency;
+        this.stableCompilationDelta = stableCompilationDelta;
+        this.stableRounds = stableRounds;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null || port <= 0) {
+            log.info("Servidor embarcado não iniciado, aquecimento do JIT ignorado");
+            healthIndicator.complete(0, 0, 0, 0);
+            return;
+        }
+
+        healthIndicator.start();
+        long start = System.nanoTime();
+        long deadline = start + timeBudget.toNanos();
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        boolean compilationMonitored = compilation != null && compilation.isCompilationTimeMonitoringSupported();
+        long initialCompilationMillis = compilationMonitored ? compilation.getTotalCompilationTime() : 0;
+        long previousCompilationMillis = initialCompilationMillis;
+
+        URI uri = URI.create("http://localhost:" + port + VALIDATE_PATH);
+        AtomicLong requests = new AtomicLong();
+        int rounds = 0;
+        int consecutiveStableRounds = 0;
+
+        boolean failed = false;
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build()) {
+
+            while (System.nanoTime() < deadline && consecutiveStableRounds < stableRounds) {
+                // O aquecimento é só uma otimização: uma falha encerra o aquecimento, não a inicialização
+                try {
+                    runRound(client, workers, uri, requests, deadline);
+                } catch (ExecutionException e) {
+                    log.warn("Aquecimento do JIT interrompido por falha em uma requisição após {} rodadas",
+                        rounds, e.getCause());
+                    failed = true;
+                    break;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Aquecimento do JIT interrompido após {} rodadas", rounds);
+                    failed = true;
+                    break;
+                }
+                rounds++;
+
+                if (compilationMonitored) {
+                    long compilationMillis = compilation.getTotalCompilationTime();
+                    long delta = compilationMillis - previousCompilationMillis;
+                    previousCompilationMillis = compilationMillis;
+                    consecutiveStableRounds = delta <= stableCompilationDelta.toMillis()
+                        ? consecutiveStableRounds + 1 : 0;
+                    log.debug("Rodada {} de aquecimento: {} ms de compilação JIT", rounds, delta);
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        long compiledMillis = previousCompilationMillis - initialCompilationMillis;
+        healthIndicator.complete(rounds, requests.get(), elapsedMillis, compiledMillis);
+
+        if (failed) {
+            return;
+        }
+        if (consecutiveStableRounds >= stableRounds) {
+            log.info("Aquecimento do JIT concluído: {} requisições em {} ms ({} ms de compilação)",
+                requests.get(), elapsedMillis, compiledMillis);
+        } else {
+            log.warn("Aquecimento do JIT interrompido pelo orçamento de {} ms sem estabilizar a compilação " +
+                "({} requisições)", timeBudget.toMillis(), requests.get());
+        }
+    }
+
+    private void runRound(HttpClient client, ExecutorService workers, URI uri,
+                          AtomicLong requests, long deadline) throws ExecutionException, InterruptedException {
+        int perWorker = Math.max(1, requestsPerRound / concurrency);
+        List<Future<?>> tasks = new ArrayList<>(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            tasks.add(workers.submit(() -> {
+                for (int i = 0; i < perWorker && System.nanoTime() < deadline; i++) {
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                        .header("Content-Type", "application/json")
+                        .header(WARMUP_HEADER, warmupRequests.getToken())
+                        .POST(HttpRequest.BodyPublishers.ofString(syntheticBody(i)))
+                        .build();
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    requests.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+    }
+
+    /**
+     * Mistura de corpos que percorre os caminhos de sucesso e de cada falha,
+     * inclusive os tratados pelo GlobalExceptionHandler
+     */
+    private String syntheticBody(int sequence) {
+        return switch (sequence % 10) {
+            case 0 -> "{\"password\":\"AbTp9!fok\"}";
+            case 1 -> "{\"password\":\"aa\"}";
+            case 2 -> "{\"password\":\"AbTp9 fok\"}";
+            case 3 -> "{\"password\":\"AbTp9!foo\"}";
+            case 4 -> "{\"password\":\"Abcdefgh!\"}";
+            case 5 -> "{\"password\":\"QwErTy1!2\"}";
+            case 6 -> "{\"password\":\"\"}";
+            case 7 -> "{ invalido }";
+            default -> "{\"password\":\"" + passwordGenerator.generate() + "\"}";
+        };
+    }
+}
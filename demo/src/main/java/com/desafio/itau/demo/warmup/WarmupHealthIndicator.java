@@ -0,0 +1,51 @@
+package com.desafio.itau.demo.warmup;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Indicador de saúde do aquecimento do JIT
+ * Fica fora do ar enquanto o {@link JitWarmupRunner} executa e faz parte do grupo de readiness
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private volatile boolean running;
+    private volatile Health completed;
+
+    public WarmupHealthIndicator(@Value("${password.warmup.enabled:true}") boolean enabled) {
+        if (!enabled) {
+            completed = Health.up().withDetail("enabled", false).build();
+        }
+    }
+
+    void start() {
+        running = true;
+    }
+
+    void complete(int rounds, long requests, long elapsedMillis, long compilationMillis) {
+        completed = Health.up()
+            .withDetail("rounds", rounds)
+            .withDetail("requests", requests)
+            .withDetail("elapsedMillis", elapsedMillis)
+            .withDetail("compilationMillis", compilationMillis)
+            .withDetail("completedAt", Instant.now().toString())
+            .build();
+        running = false;
+    }
+
+    @Override
+    public Health health() {
+        Health result = completed;
+        if (result != null) {
+            return result;
+        }
+        return Health.outOfService()
+            .withDetail("running", running)
+            .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.desafio.itau.demo.warmup;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adiciona a tag {@code warmup} à métrica {@code http.server.requests}, separando
+ * as requisições de aquecimento do tráfego real na distribuição de latência
+ */
+@Component
+public class WarmupObservationConvention extends DefaultServerRequestObservationConvention {
+
+    private static final KeyValue WARMUP = KeyValue.of("warmup", "true");
+    private static final KeyValue REGULAR = KeyValue.of("warmup", "false");
+
+    private final WarmupRequests warmupRequests;
+
+    public WarmupObservationConvention(WarmupRequests warmupRequests) {
+        this.warmupRequests = warmupRequests;
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        boolean warmup = context.getCarrier() != null && warmupRequests.isWarmup(context.getCarrier());
+        return super.getLowCardinalityKeyValues(context).and(warmup ? WARMUP : REGULAR);
+    }
+}
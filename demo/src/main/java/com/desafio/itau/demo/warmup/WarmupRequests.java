@@ -0,0 +1,58 @@
+package com.desafio.itau.demo.warmup;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+/**
+ * Identifica as requisições sintéticas do {@link JitWarmupRunner}
+ *
+ * O cabeçalho {@link JitWarmupRunner#WARMUP_HEADER} só marca uma requisição como
+ * aquecimento se trouxer o token aleatório gerado na inicialização deste processo
+ * e vier do loopback. Um cliente externo que envie o cabeçalho não consegue tirar
+ * suas validações da auditoria, da avaliação em sombra nem das verificações externas.
+ */
+@Component
+public class WarmupRequests {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final byte[] token;
+    private final String tokenValue;
+
+    public WarmupRequests() {
+        byte[] random = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(random);
+        this.tokenValue = HexFormat.of().formatHex(random);
+        this.token = tokenValue.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @return valor do cabeçalho enviado pelo aquecimento; não deve sair do processo
+     */
+    public String getToken() {
+        return tokenValue;
+    }
+
+    /**
+     * @return true se a requisição é do aquecimento deste processo
+     */
+    public boolean isWarmup(HttpServletRequest request) {
+        String header = request.getHeader(JitWarmupRunner.WARMUP_HEADER);
+        return header != null
+            && isLoopback(request.getRemoteAddr())
+            && MessageDigest.isEqual(token, header.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Compara o endereço literal sem resolução de nomes
+     */
+    private static boolean isLoopback(String address) {
+        return address != null
+            && (address.startsWith("127.") || address.equals("::1") || address.equals("0:0:0:0:0:0:0:1"));
+    }
+}
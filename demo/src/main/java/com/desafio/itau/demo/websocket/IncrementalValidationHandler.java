@@ -0,0 +1,118 @@
+package com.desafio.itau.demo.websocket;
+
+import com.desafio.itau.demo.model.IncrementalValidationStatus;
+import com.desafio.itau.demo.model.PasswordEditMessage;
+import com.desafio.itau.demo.validator.IncrementalPasswordState;
+import com.desafio.itau.demo.validator.PasswordValidatorChain;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+
+/**
+ * Handler do WebSocket de validação incremental
+ *
+ * Cada conexão mantém um {@link IncrementalPasswordState}; o cliente envia
+ * apenas as edições (inserção, remoção ou reinício) e recebe o status das
+ * regras atualizado em O(1) por caractere editado, em vez de reenviar a senha
+ * inteira a /api/password/validate a cada tecla. Uma edição rejeitada não
+ * altera o estado; o cliente pode ressincronizar enviando "reset".
+ */
+@Slf4j
+@Component
+public class IncrementalValidationHandler extends TextWebSocketHandler {
+
+    private static final String STATE_ATTRIBUTE = IncrementalPasswordState.class.getName();
+
+    private final PasswordValidatorChain passwordValidator;
+    private final ObjectMapper objectMapper;
+    private final int maxLength;
+
+    public IncrementalValidationHandler(PasswordValidatorChain passwordValidator,
+                                        ObjectMapper objectMapper,
+                                        @Value("${password.websocket.max-length:256}") int maxLength) {
+        this.passwordValidator = passwordValidator;
+        this.objectMapper = objectMapper;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        session.getAttributes().put(STATE_ATTRIBUTE, new IncrementalPasswordState());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        PasswordEditMessage edit;
+        try {
+            edit = objectMapper.readValue(message.getPayload(), PasswordEditMessage.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Mensagem inválida recebida no WebSocket de validação: {}", e.getOriginalMessage());
+            send(session, IncrementalValidationStatus.error(null, "Mensagem inválida"));
+            return;
+        }
+
+        IncrementalPasswordState state = (IncrementalPasswordState) session.getAttributes().get(STATE_ATTRIBUTE);
+        try {
+            apply(state, edit);
+        } catch (IllegalArgumentException e) {
+            send(session, IncrementalValidationStatus.error(edit.getSeq(), e.getMessage()));
+            return;
+        }
+
+        send(session, IncrementalValidationStatus.of(edit.getSeq(), state, passwordValidator.validate(state)));
+    }
+
+    private void apply(IncrementalPasswordState state, PasswordEditMessage edit) {
+        String op = edit.getOp() == null ? "" : edit.getOp();
+        switch (op) {
+            case PasswordEditMessage.INSERT -> {
+                String text = requireText(edit);
+                requireMaxLength(state.length() + text.length());
+                requirePosition(edit.getPosition() >= 0 && edit.getPosition() <= state.length());
+                state.insert(edit.getPosition(), text);
+            }
+            case PasswordEditMessage.DELETE -> {
+                requirePosition(edit.getPosition() >= 0 && edit.getCount() >= 0
+                    && edit.getPosition() <= state.length() - edit.getCount());
+                state.delete(edit.getPosition(), edit.getCount());
+            }
+            case PasswordEditMessage.RESET -> {
+                String text = requireText(edit);
+                requireMaxLength(text.length());
+                state.reset(text);
+            }
+            default -> throw new IllegalArgumentException("Operação desconhecida: " + op);
+        }
+    }
+
+    private static String requireText(PasswordEditMessage edit) {
+        if (edit.getText() == null) {
+            throw new IllegalArgumentException("Edição inválida: texto ausente");
+        }
+        return edit.getText();
+    }
+
+    private static void requirePosition(boolean withinText) {
+        if (!withinText) {
+            throw new IllegalArgumentException("Edição inválida: posição fora do texto");
+        }
+    }
+
+    private void requireMaxLength(int length) {
+        if (length > maxLength) {
+            throw new IllegalArgumentException(
+                String.format("Edição inválida: senha deve ter no máximo %d caracteres", maxLength));
+        }
+    }
+
+    private void send(WebSocketSession session, IncrementalValidationStatus status) throws IOException {
+        session.sendMessage(new TextMessage(objectMapper.writeValueAsString(status)));
+    }
+}
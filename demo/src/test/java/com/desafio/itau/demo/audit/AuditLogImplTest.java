@@ -0,0 +1,118 @@
+package com.desafio.itau.demo.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes para o AuditLogImpl e o AuditLogReader, gravando segmentos reais em disco
+ */
+@DisplayName("Audit Log Tests")
+class AuditLogImplTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should write records that the reader exports without the password")
+    void shouldWriteRecordsThatReaderExports() throws Exception {
+        // Given
+        Instant before = Instant.now();
+        AuditLogImpl auditLog = newAuditLog(64 * 1024 * 1024);
+
+        // When
+        auditLog.record("192.168.0.10", 0);
+        auditLog.record("2001:db8::1", 3);
+        auditLog.record("not-an-ip", 100);
+        auditLog.close();
+
+        // Then
+        List<Path> segments = AuditLogReader.segments(directory);
+        assertThat(segments).hasSize(1);
+        List<AuditRecord> records = AuditLogReader.readAll(segments.get(0));
+        assertThat(records).extracting(AuditRecord::getClientAddress)
+            .containsExactly("192.168.0.10", "2001:db8:0:0:0:0:0:1", "");
+        assertThat(records).extracting(AuditRecord::getOutcomeCode).containsExactly(0, 3, 100);
+        assertThat(records).extracting(AuditRecord::getPolicyVersion).containsOnly(7);
+        assertThat(records.get(0).getTimestamp()).isBetween(before.minusMillis(1), Instant.now());
+        assertThat(auditLog.getWrittenCount()).isEqualTo(3);
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        AuditLogReader.export(List.of(directory), new PrintStream(csv, true, StandardCharsets.UTF_8));
+        assertThat(csv.toString(StandardCharsets.UTF_8).lines())
+            .hasSize(4)
+            .first().isEqualTo(AuditLogReader.CSV_HEADER);
+    }
+
+    @Test
+    @DisplayName("Should rotate segments by size keeping chronological order")
+    void shouldRotateSegmentsBySizeKeepingChronologicalOrder() throws Exception {
+        // Given
+        AuditLogImpl auditLog = newAuditLog(AuditRecord.HEADER_SIZE + 10 * AuditRecord.SIZE);
+
+        // When
+        for (int i = 0; i < 35; i++) {
+            auditLog.record("10.0.0.1", i);
+        }
+        auditLog.close();
+
+        // Then
+        List<Path> segments = AuditLogReader.segments(directory);
+        assertThat(segments).hasSize(4);
+        List<Integer> codes = new ArrayList<>();
+        for (Path segment : segments) {
+            AuditLogReader.read(segment, record -> codes.add(record.getOutcomeCode()));
+        }
+        assertThat(codes).hasSize(35).isSorted();
+    }
+
+    @Test
+    @DisplayName("Should ignore an incomplete record at the end of a segment")
+    void shouldIgnoreIncompleteRecordAtEndOfSegment() throws Exception {
+        // Given
+        AuditLogImpl auditLog = newAuditLog(64 * 1024 * 1024);
+        auditLog.record("10.0.0.1", 0);
+        auditLog.record("10.0.0.2", 8);
+        auditLog.close();
+        Path segment = AuditLogReader.segments(directory).get(0);
+
+        // When
+        Files.write(segment, new byte[AuditRecord.SIZE / 2], StandardOpenOption.APPEND);
+
+        // Then
+        assertThat(AuditLogReader.readAll(segment)).extracting(AuditRecord::getOutcomeCode).containsExactly(0, 8);
+    }
+
+    @Test
+    @DisplayName("Should not accept records after close")
+    void shouldNotAcceptRecordsAfterClose() throws Exception {
+        // Given
+        AuditLogImpl auditLog = newAuditLog(64 * 1024 * 1024);
+        auditLog.close();
+
+        // When
+        boolean accepted = auditLog.record("10.0.0.1", 0);
+
+        // Then
+        assertThat(accepted).isFalse();
+        assertThat(auditLog.getDroppedCount()).isEqualTo(1);
+    }
+
+    private AuditLogImpl newAuditLog(long maxSegmentBytes) throws Exception {
+        return new AuditLogImpl(directory, 1024, maxSegmentBytes, Duration.ofHours(1),
+            Duration.ofMillis(1), false, 7);
+    }
+}
@@ -0,0 +1,110 @@
+package com.desafio.itau.demo.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o AuditRingBuffer
+ */
+@DisplayName("Audit Ring Buffer Tests")
+class AuditRingBufferTest {
+
+    @Test
+    @DisplayName("Should reject capacity that is not a power of two")
+    void shouldRejectCapacityThatIsNotPowerOfTwo() {
+        assertThatThrownBy(() -> new AuditRingBuffer(1000))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should drop records when full instead of blocking")
+    void shouldDropRecordsWhenFullInsteadOfBlocking() {
+        // Given
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(ringBuffer.offer(i, 0, 0, i, 1)).isTrue();
+        }
+
+        // When
+        boolean accepted = ringBuffer.offer(4, 0, 0, 4, 1);
+        ByteBuffer buffer = ByteBuffer.allocate(8 * AuditRecord.SIZE);
+        int drained = ringBuffer.drainTo(buffer, 8);
+
+        // Then
+        assertThat(accepted).isFalse();
+        assertThat(drained).isEqualTo(4);
+        assertThat(ringBuffer.size()).isZero();
+        assertThat(ringBuffer.offer(5, 0, 0, 5, 1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should deliver every record exactly once with concurrent producers")
+    void shouldDeliverEveryRecordExactlyOnceWithConcurrentProducers() throws Exception {
+        // Given
+        int producers = 4;
+        int recordsPerProducer = 50_000;
+        AuditRingBuffer ringBuffer = new AuditRingBuffer(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                await(start);
+                for (int i = 0; i < recordsPerProducer; i++) {
+                    int code = producer * recordsPerProducer + i;
+                    while (!ringBuffer.offer(code, producer, i, code, producer)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // When
+        start.countDown();
+        BitSet seen = new BitSet(producers * recordsPerProducer);
+        int[] lastPerProducer = {-1, -1, -1, -1};
+        ByteBuffer buffer = ByteBuffer.allocate(256 * AuditRecord.SIZE);
+        int received = 0;
+        while (received < producers * recordsPerProducer) {
+            buffer.clear();
+            int drained = ringBuffer.drainTo(buffer, 256);
+            buffer.flip();
+            for (int i = 0; i < drained; i++) {
+                AuditRecord record = AuditRecord.read(buffer);
+                assertThat(seen.get(record.getOutcomeCode())).isFalse();
+                seen.set(record.getOutcomeCode());
+                int producer = record.getPolicyVersion();
+                int sequence = record.getOutcomeCode() - producer * recordsPerProducer;
+                assertThat(sequence).isGreaterThan(lastPerProducer[producer]);
+                lastPerProducer[producer] = sequence;
+            }
+            received += drained;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(seen.cardinality()).isEqualTo(producers * recordsPerProducer);
+        assertThat(ringBuffer.size()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.desafio.itau.demo.check;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o CheckResultCache
+ */
+@DisplayName("Check Result Cache Tests")
+class CheckResultCacheTest {
+
+    private static final long TTL = TimeUnit.MINUTES.toNanos(5);
+
+    private final byte[] salt = new byte[16];
+
+    @Test
+    @DisplayName("Should evict the least recently used entry when full of unexpired entries")
+    void shouldEvictTheLeastRecentlyUsedEntryWhenFullOfUnexpiredEntries() {
+        // Given
+        CheckResultCache cache = new CheckResultCache(TTL, 2);
+        CheckResultCache.Key first = key("AbTp9!fok");
+        CheckResultCache.Key second = key("XyZ1@2#3$");
+        CheckResultCache.Key third = key("QwErTy1!2");
+        cache.put(first, true, 0);
+        cache.put(second, false, 0);
+        cache.get(first, 1);
+
+        // When
+        cache.put(third, true, 2);
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(third, 3)).isTrue();
+        assertThat(cache.get(first, 3)).isTrue();
+        assertThat(cache.get(second, 3)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not return expired entries")
+    void shouldNotReturnExpiredEntries() {
+        // Given
+        CheckResultCache cache = new CheckResultCache(TTL, 2);
+        CheckResultCache.Key key = key("AbTp9!fok");
+        cache.put(key, true, 0);
+
+        // When
+        Boolean result = cache.get(key, TTL);
+
+        // Then
+        assertThat(result).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    private CheckResultCache.Key key(String password) {
+        return CheckResultCache.Key.of(salt, password, null);
+    }
+}
@@ -0,0 +1,288 @@
+package com.desafio.itau.demo.check;
+
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.UserContext;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o PasswordCheckRunner
+ */
+@DisplayName("Password Check Runner Tests")
+class PasswordCheckRunnerTest {
+
+    private static final Duration NO_CACHE = Duration.ZERO;
+
+    private final PasswordValidationResponse localValid = ValidationOutcome.VALID.toResponse();
+
+    private PasswordCheckRunner runner;
+
+    @AfterEach
+    void tearDown() {
+        if (runner != null) {
+            runner.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run checks in parallel so latency follows the slowest check")
+    void shouldRunChecksInParallelSoLatencyFollowsTheSlowestCheck() {
+        // Given
+        List<PasswordCheck> checks = List.of(
+            new StubCheck("a", 201, 200, true),
+            new StubCheck("b", 202, 200, true),
+            new StubCheck("c", 203, 200, true));
+        runner = new PasswordCheckRunner(checks, Duration.ofSeconds(5), PasswordCheckRunner.FailurePolicy.FAIL_CLOSED,
+            NO_CACHE, 0);
+
+        // When
+        long start = System.nanoTime();
+        PasswordValidationResponse response = runner.run("AbTp9!fok", null, localValid);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(response).isSameAs(localValid);
+        assertThat(elapsedMillis).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("Should return the first failure and cancel the remaining checks")
+    void shouldReturnTheFirstFailureAndCancelTheRemainingChecks() throws Exception {
+        // Given
+        StubCheck slow = new StubCheck("lenta", 201, 10_000, true);
+        StubCheck failing = new StubCheck("reprova", 202, 0, false);
+        runner = new PasswordCheckRunner(List.of(slow, failing), Duration.ofSeconds(30),
+            PasswordCheckRunner.FailurePolicy.FAIL_OPEN, NO_CACHE, 0);
+
+        // When
+        PasswordValidationResponse response = runner.run("AbTp9!fok", null, localValid);
+
+        // Then
+        assertThat(response.isValid()).isFalse();
+        assertThat(response.getCode()).isEqualTo(202);
+        assertThat(response.getMessage()).isEqualTo(failing.getFailureMessage());
+        assertThat(slow.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the local result when the deadline expires with fail-open")
+    void shouldKeepTheLocalResultWhenTheDeadlineExpiresWithFailOpen() {
+        // Given
+        StubCheck slow = new StubCheck("lenta", 201, 10_000, false);
+        runner = new PasswordCheckRunner(List.of(slow), Duration.ofMillis(50),
+            PasswordCheckRunner.FailurePolicy.FAIL_OPEN, NO_CACHE, 0);
+
+        // When
+        PasswordValidationResponse response = runner.run("AbTp9!fok", null, localValid);
+
+        // Then
+        assertThat(response).isSameAs(localValid);
+        assertThat(runner.getTimeoutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject as unavailable when the deadline expires with fail-closed")
+    void shouldRejectAsUnavailableWhenTheDeadlineExpiresWithFailClosed() {
+        // Given
+        StubCheck slow = new StubCheck("lenta", 201, 10_000, true);
+        runner = new PasswordCheckRunner(List.of(slow), Duration.ofMillis(50),
+            PasswordCheckRunner.FailurePolicy.FAIL_CLOSED, NO_CACHE, 0);
+
+        // When
+        PasswordValidationResponse response = runner.run("AbTp9!fok", null, localValid);
+
+        // Then
+        assertThat(response.isValid()).isFalse();
+        assertThat(response.getCode()).isEqualTo(PasswordCheckRunner.UNAVAILABLE_CODE);
+        assertThat(response.getMessage()).isEqualTo(PasswordCheckRunner.UNAVAILABLE_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("Should apply the failure policy when a check throws")
+    void shouldApplyTheFailurePolicyWhenACheckThrows() {
+        // Given
+        PasswordCheck broken = new StubCheck("quebrada", 201, 0, true) {
+            @Override
+            public boolean isSatisfiedBy(String password, UserContext context) {
+                throw new IllegalStateException("serviço fora do ar");
+            }
+        };
+        PasswordCheckRunner open = new PasswordCheckRunner(List.of(broken), Duration.ofSeconds(5),
+            PasswordCheckRunner.FailurePolicy.FAIL_OPEN, NO_CACHE, 0);
+        runner = new PasswordCheckRunner(List.of(broken), Duration.ofSeconds(5),
+            PasswordCheckRunner.FailurePolicy.FAIL_CLOSED, NO_CACHE, 0);
+
+        // When
+        PasswordValidationResponse openResponse;
+        try (open) {
+            openResponse = open.run("AbTp9!fok", null, localValid);
+        }
+        PasswordValidationResponse closedResponse = runner.run("AbTp9!fok", null, localValid);
+
+        // Then
+        assertThat(openResponse).isSameAs(localValid);
+        assertThat(open.getFailureCount()).isEqualTo(1);
+        assertThat(closedResponse.isValid()).isFalse();
+        assertThat(closedResponse.getCode()).isEqualTo(PasswordCheckRunner.UNAVAILABLE_CODE);
+        assertThat(closedResponse.getMessage()).isEqualTo(PasswordCheckRunner.UNAVAILABLE_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated passwords from the cache without calling the check")
+    void shouldServeRepeatedPasswordsFromTheCacheWithoutCallingTheCheck() {
+        // Given
+        StubCheck failing = new StubCheck("reprova", 201, 0, false);
+        runner = new PasswordCheckRunner(List.of(failing), Duration.ofSeconds(5),
+            PasswordCheckRunner.FailurePolicy.FAIL_OPEN, Duration.ofMinutes(5), 16);
+        UserContext context = new UserContext("joao", null, null, null);
+
+        // When
+        PasswordValidationResponse first = runner.run("AbTp9!fok", context, localValid);
+        PasswordValidationResponse second = runner.run("AbTp9!fok", context, localValid);
+        runner.run("AbTp9!fok", new UserContext("maria", null, null, null), localValid);
+
+        // Then
+        assertThat(first.getCode()).isEqualTo(201);
+        assertThat(second.getCode()).isEqualTo(201);
+        assertThat(failing.calls.get()).isEqualTo(2);
+        assertThat(runner.getCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not start checks for passwords rejected by local rules")
+    void shouldNotStartChecksForPasswordsRejectedByLocalRules() {
+        // Given
+        StubCheck check = new StubCheck("a", 201, 0, true);
+        runner = new PasswordCheckRunner(List.of(check), Duration.ofSeconds(5),
+            PasswordCheckRunner.FailurePolicy.FAIL_CLOSED, NO_CACHE, 0);
+        PasswordValidationResponse localInvalid = ValidationOutcome.TOO_SHORT.toResponse();
+
+        // When
+        PasswordValidationResponse response = runner.run("aa", null, localInvalid);
+
+        // Then
+        assertThat(response).isSameAs(localInvalid);
+        assertThat(check.calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should check a whole batch under a single deadline and reject only the failing items")
+    void shouldCheckAWholeBatchUnderASingleDeadlineAndRejectOnlyTheFailingItems() {
+        // Given
+        StubCheck slow = new StubCheck("lenta", 201, 200, true);
+        StubCheck compromised = new StubCheck("comprometida", 202, 0, true) {
+            @Override
+            public boolean isSatisfiedBy(String password, UserContext context) throws InterruptedException {
+                super.isSatisfiedBy(password, context);
+                return !password.equals("Xq7#LmP2v");
+            }
+        };
+        runner = new PasswordCheckRunner(List.of(slow, compromised), Duration.ofSeconds(5),
+            PasswordCheckRunner.FailurePolicy.FAIL_CLOSED, NO_CACHE, 0);
+        PasswordValidationResponse localInvalid = ValidationOutcome.TOO_SHORT.toResponse();
+        List<String> passwords = List.of("AbTp9!fok", "Xq7#LmP2v", "aa", "Kd8$wRz3nQ", "Nv4%tYb6sH",
+            "AbTp9!fuk", "Mz5&cWq8rT", "Hj2*vBn7xL");
+        List<PasswordValidationResponse> localResponses = passwords.stream()
+            .map(password -> password.equals("aa") ? localInvalid : localValid)
+            .toList();
+        List<UserContext> contexts = Collections.nCopies(passwords.size(), null);
+
+        // When
+        long start = System.nanoTime();
+        List<PasswordValidationResponse> responses = runner.runAll(passwords, contexts, localResponses);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(responses).hasSize(passwords.size());
+        assertThat(responses.get(1).getCode()).isEqualTo(202);
+        assertThat(responses.get(2)).isSameAs(localInvalid);
+        assertThat(responses).filteredOn(PasswordValidationResponse::isValid).hasSize(passwords.size() - 2);
+        assertThat(slow.calls.get()).isEqualTo(passwords.size() - 1);
+    }
+
+    @Test
+    @DisplayName("Should reject only the unanswered items of a batch when the deadline expires with fail-closed")
+    void shouldRejectOnlyTheUnansweredItemsOfABatchWhenTheDeadlineExpiresWithFailClosed() {
+        // Given
+        StubCheck sometimesSlow = new StubCheck("as-vezes-lenta", 201, 0, true) {
+            @Override
+            public boolean isSatisfiedBy(String password, UserContext context) throws InterruptedException {
+                if (password.startsWith("lenta")) {
+                    Thread.sleep(10_000);
+                }
+                return true;
+            }
+        };
+        runner = new PasswordCheckRunner(List.of(sometimesSlow), Duration.ofMillis(200),
+            PasswordCheckRunner.FailurePolicy.FAIL_CLOSED, NO_CACHE, 0);
+
+        // When
+        List<PasswordValidationResponse> responses = runner.runAll(List.of("AbTp9!fok", "lenta!1A", "Kd8$wRz3nQ"),
+            Collections.nCopies(3, null), List.of(localValid, localValid, localValid));
+
+        // Then
+        assertThat(responses.get(0)).isSameAs(localValid);
+        assertThat(responses.get(1).getCode()).isEqualTo(PasswordCheckRunner.UNAVAILABLE_CODE);
+        assertThat(responses.get(2)).isSameAs(localValid);
+        assertThat(runner.getTimeoutCount()).isEqualTo(1);
+    }
+
+    /**
+     * Verificação com latência e resultado fixos, que registra chamadas e interrupções
+     */
+    private static class StubCheck implements PasswordCheck {
+
+        private final String name;
+        private final int code;
+        private final long latencyMillis;
+        private final boolean satisfied;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        private StubCheck(String name, int code, long latencyMillis, boolean satisfied) {
+            this.name = name;
+            this.code = code;
+            this.latencyMillis = latencyMillis;
+            this.satisfied = satisfied;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean isSatisfiedBy(String password, UserContext context) throws InterruptedException {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return satisfied;
+        }
+
+        @Override
+        public String getFailureMessage() {
+            return "Reprovada por " + name;
+        }
+
+        @Override
+        public int getFailureCode() {
+            return code;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.desafio.itau.demo.controller;
+
+import com.desafio.itau.demo.generator.PasswordGenerator;
+import com.desafio.itau.demo.warmup.WarmupRequests;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.Writer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para o PasswordGenerationController
+ */
+@WebMvcTest(PasswordGenerationController.class)
+@Import(WarmupRequests.class)
+@DisplayName("Password Generation Controller Integration Tests")
+class PasswordGenerationControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockBean
+    private PasswordGenerator passwordGenerator;
+    
+    @Test
+    @DisplayName("Should stream generated passwords as plain text")
+    void shouldStreamGeneratedPasswordsAsPlainText() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Writer writer = invocation.getArgument(1);
+            writer.write("AbTp9!fok\nXyZ1@2#3$\n");
+            return null;
+        }).when(passwordGenerator).generate(eq(2L), any(Writer.class));
+        
+        // When
+        MvcResult result = mockMvc.perform(post("/api/password/generate").param("count", "2"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string("AbTp9!fok\nXyZ1@2#3$\n"));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request for count out of range")
+    void shouldReturn400BadRequestForCountOutOfRange() throws Exception {
+        mockMvc.perform(post("/api/password/generate").param("count", "0"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.valid").value(false))
+            .andExpect(jsonPath("$.message").value("Quantidade deve estar entre 1 e 1000000"));
+        
+        verifyNoInteractions(passwordGenerator);
+    }
+}
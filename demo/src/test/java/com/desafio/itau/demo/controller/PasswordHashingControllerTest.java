@@ -0,0 +1,82 @@
+package com.desafio.itau.demo.controller;
+
+import com.desafio.itau.demo.model.PasswordHashResponse;
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import com.desafio.itau.demo.service.PasswordHashingService;
+import com.desafio.itau.demo.warmup.WarmupRequests;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para o PasswordHashingController
+ */
+@WebMvcTest(PasswordHashingController.class)
+@Import(WarmupRequests.class)
+@DisplayName("Password Hashing Controller Integration Tests")
+class PasswordHashingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private PasswordHashingService passwordHashingService;
+
+    @Test
+    @DisplayName("Should return hash for valid password")
+    void shouldReturnHashForValidPassword() throws Exception {
+        // Given
+        when(passwordHashingService.validateAndHash(any(PasswordValidationRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                PasswordHashResponse.hashed(ValidationOutcome.VALID.toResponse(), "$argon2id$v=19$hash")));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/password/validate-and-hash")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new PasswordValidationRequest("AbTp9!fok"))))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.valid").value(true))
+            .andExpect(jsonPath("$.hash").value("$argon2id$v=19$hash"));
+    }
+
+    @Test
+    @DisplayName("Should return 503 Service Unavailable when hashing is saturated")
+    void shouldReturn503ServiceUnavailableWhenHashingIsSaturated() throws Exception {
+        // Given
+        when(passwordHashingService.validateAndHash(any(PasswordValidationRequest.class)))
+            .thenThrow(new RejectedExecutionException("fila cheia"));
+
+        // When & Then
+        mockMvc.perform(post("/api/password/validate-and-hash")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new PasswordValidationRequest("AbTp9!fok"))))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string("Retry-After", "1"))
+            .andExpect(jsonPath("$.valid").value(false));
+    }
+}
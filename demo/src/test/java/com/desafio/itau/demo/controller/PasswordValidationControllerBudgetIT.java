@@ -0,0 +1,135 @@
+package com.desafio.itau.demo.controller;
+
+import com.desafio.itau.demo.audit.AuditLog;
+import com.desafio.itau.demo.filter.EarlyRejectionFilter;
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.service.PasswordValidationServiceImpl;
+import com.desafio.itau.demo.validator.BannedSubstringRule;
+import com.desafio.itau.demo.validator.PasswordValidatorChain;
+import com.desafio.itau.demo.validator.PasswordValidatorImpl;
+import com.desafio.itau.demo.warmup.WarmupRequests;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.desafio.itau.demo.budget.PerformanceBudget.allocatedBytesPerCall;
+import static com.desafio.itau.demo.budget.PerformanceBudget.latencyBound;
+import static com.desafio.itau.demo.budget.PerformanceBudget.nanosPerCall;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Orçamentos de alocação e latência do PasswordValidationController
+ * O método do controller é medido isoladamente (resposta e ResponseEntity);
+ * o caminho completo do Spring MVC, com o EarlyRejectionFilter e a conversão JSON,
+ * tem um limite de latência e, para as rejeições antecipadas, uma comparação de
+ * alocação, exata e imune ao ruído da máquina
+ */
+@DisplayName("Password Validation Controller Budget Tests")
+class PasswordValidationControllerBudgetIT {
+
+    // Resposta, ResponseEntity e os cabeçalhos vazios que o builder cria: 280 B medidos no JDK 21
+    // com compressed oops, mais 40 B de margem para variações de layout entre JDKs
+    private static final double CONTROLLER_BYTES = 320;
+
+    // Calibração do MockMvc: cada chamada percorre DispatcherServlet, conversores e filtros
+    private static final int MVC_WARMUP_CALLS = 20_000;
+    private static final int MVC_CALLS_PER_SAMPLE = 2_000;
+
+    private final WarmupRequests warmupRequests = new WarmupRequests();
+    private final PasswordValidationServiceImpl service = new PasswordValidationServiceImpl(
+        new PasswordValidatorChain(new PasswordValidatorImpl(), List.of(BannedSubstringRule.withDefaultTerms())),
+        null, null);
+    private final PasswordValidationController controller = new PasswordValidationController(
+        service, warmupRequests, 1000);
+
+    @Test
+    @DisplayName("Should allocate only the response entity in the controller method")
+    void shouldAllocateOnlyResponseEntityInControllerMethod() {
+        // Given
+        // A busca de cabeçalho do MockHttpServletRequest aloca; fora da medição, só o controller conta
+        PasswordValidationController controllerOnly = new PasswordValidationController(service,
+            new WarmupRequests() {
+                @Override
+                public boolean isWarmup(HttpServletRequest request) {
+                    return false;
+                }
+            }, 1000);
+        PasswordValidationRequest request = new PasswordValidationRequest("AbTp9!fok");
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest("POST", "/api/password/validate");
+
+        // When
+        double bytes = allocatedBytesPerCall(() -> controllerOnly.validatePassword(request, httpRequest));
+
+        // Then
+        assertThat(bytes).as("bytes alocados por validatePassword").isLessThanOrEqualTo(CONTROLLER_BYTES);
+    }
+
+    @Test
+    @DisplayName("Should serve the full MVC path within the steady-state latency budget")
+    void shouldServeFullMvcPathWithinSteadyStateLatencyBudget() {
+        // Given
+        MockMvc mockMvc = mockMvc();
+
+        // When
+        double nanos = nanosPerRequest(mockMvc, "{\"password\": \"AbTp9!fok\"}");
+
+        // Then
+        assertThat(nanos).as("ns por requisição no MockMvc").isLessThan(latencyBound(1_000_000));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed and oversized requests allocating less than a valid request")
+    void shouldRejectMalformedAndOversizedRequestsAllocatingLessThanValidRequest() {
+        // Given
+        MockMvc mockMvc = mockMvc();
+
+        // When
+        double valid = bytesPerRequest(mockMvc, "{\"password\": \"AbTp9!fok\"}");
+        double malformed = bytesPerRequest(mockMvc, "{\"password\": \"AbTp9!fok\"");
+        double oversized = bytesPerRequest(mockMvc, "{\"password\": \"" + "x".repeat(257) + "\"}");
+
+        // Then
+        assertThat(malformed).as("bytes por requisição mal formada").isLessThan(valid);
+        assertThat(oversized).as("bytes por requisição com senha acima do limite").isLessThan(valid);
+    }
+
+    private MockMvc mockMvc() {
+        EarlyRejectionFilter filter = new EarlyRejectionFilter(new ObjectMapper(), new ObjectMapper(new CBORFactory()),
+            new ObjectMapper(new SmileFactory()), 256 * 1024, 256, AuditLog.DISABLED, warmupRequests);
+        return MockMvcBuilders.standaloneSetup(controller).addFilter(filter, "/api/password/validate").build();
+    }
+
+    private static double nanosPerRequest(MockMvc mockMvc, String content) {
+        return nanosPerCall(request(mockMvc, content), MVC_WARMUP_CALLS, MVC_CALLS_PER_SAMPLE);
+    }
+
+    private static double bytesPerRequest(MockMvc mockMvc, String content) {
+        return allocatedBytesPerCall(request(mockMvc, content), MVC_WARMUP_CALLS, MVC_CALLS_PER_SAMPLE);
+    }
+
+    private static Supplier<MvcResult> request(MockMvc mockMvc, String content) {
+        byte[] body = content.getBytes();
+        return () -> {
+            try {
+                return mockMvc.perform(post("/api/password/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                    .andReturn();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
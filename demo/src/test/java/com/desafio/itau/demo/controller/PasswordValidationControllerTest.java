@@ -0,0 +1,399 @@
+package com.desafio.itau.demo.controller;
+
+import com.desafio.itau.demo.audit.AuditLog;
+import com.desafio.itau.demo.config.ContentNegotiationConfig;
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import com.desafio.itau.demo.service.PasswordValidationService;
+import com.desafio.itau.demo.warmup.JitWarmupRunner;
+import com.desafio.itau.demo.warmup.WarmupRequests;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para o PasswordValidationController
+ */
+@WebMvcTest(PasswordValidationController.class)
+@Import({ContentNegotiationConfig.class, WarmupRequests.class})
+@DisplayName("Password Validation Controller Integration Tests")
+class PasswordValidationControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockBean
+    private PasswordValidationService passwordValidationService;
+    
+    @MockBean
+    private AuditLog auditLog;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private WarmupRequests warmupRequests;
+    
+    @Test
+    @DisplayName("Should return 200 OK for valid password")
+    void shouldReturn200OkForValidPassword() throws Exception {
+        // Given
+        PasswordValidationRequest request = new PasswordValidationRequest("AbTp9!fok");
+        PasswordValidationResponse response = PasswordValidationResponse.valid("Senha válida");
+        
+        when(passwordValidationService.validatePassword(any(PasswordValidationRequest.class)))
+            .thenReturn(response);
+        
+        // When & Then
+        mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.valid").value(true))
+            .andExpect(jsonPath("$.message").value("Senha válida"));
+    }
+    
+    @Test
+    @DisplayName("Should return 200 OK for invalid password")
+    void shouldReturn200OkForInvalidPassword() throws Exception {
+        // Given
+        PasswordValidationRequest request = new PasswordValidationRequest("aa");
+        PasswordValidationResponse response = PasswordValidationResponse.invalid("Senha deve ter pelo menos 9 caracteres");
+        
+        when(passwordValidationService.validatePassword(any(PasswordValidationRequest.class)))
+            .thenReturn(response);
+        
+        // When & Then
+        mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.valid").value(false))
+            .andExpect(jsonPath("$.message").value("Senha deve ter pelo menos 9 caracteres"));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request for empty password")
+    void shouldReturn400BadRequestForEmptyPassword() throws Exception {
+        // Given
+        PasswordValidationRequest request = new PasswordValidationRequest("");
+        
+        // When & Then
+        mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.valid").value(false))
+            .andExpect(jsonPath("$.message").value("A senha não pode estar vazia"));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request for null password")
+    void shouldReturn400BadRequestForNullPassword() throws Exception {
+        // Given
+        PasswordValidationRequest request = new PasswordValidationRequest(null);
+        
+        // When & Then
+        mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.valid").value(false))
+            .andExpect(jsonPath("$.message").value("A senha não pode estar vazia"));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request for missing password field")
+    void shouldReturn400BadRequestForMissingPasswordField() throws Exception {
+        // Given
+        String requestJson = "{}";
+        
+        // When & Then
+        mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestJson))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.valid").value(false))
+            .andExpect(jsonPath("$.message").value("A senha não pode estar vazia"));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request for invalid JSON")
+    void shouldReturn400BadRequestForInvalidJson() throws Exception {
+        // Given
+        String invalidJson = "{ invalid json }";
+        
+        // When & Then
+        mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(invalidJson))
+            .andExpect(status().isBadRequest());
+    }
+    
+    @Test
+    @DisplayName("Should return 415 Unsupported Media Type for non-JSON content")
+    void shouldReturn415UnsupportedMediaTypeForNonJsonContent() throws Exception {
+        // Given
+        String requestContent = "password=AbTp9!fok";
+        
+        // When & Then
+        mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .content(requestContent))
+            .andExpect(status().isUnsupportedMediaType());
+    }
+    
+    @Test
+    @DisplayName("Should return one result per password for batch validation")
+    void shouldReturnOneResultPerPasswordForBatchValidation() throws Exception {
+        // Given
+        List<PasswordValidationRequest> requests = List.of(
+            new PasswordValidationRequest("AbTp9!fok"),
+            new PasswordValidationRequest("aa"));
+        
+        when(passwordValidationService.validatePasswords(anyList()))
+            .thenReturn(List.of(
+                PasswordValidationResponse.valid("Senha válida"),
+                PasswordValidationResponse.invalid("Senha deve ter pelo menos 9 caracteres")));
+        
+        // When & Then
+        mockMvc.perform(post("/api/password/validate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].valid").value(true))
+            .andExpect(jsonPath("$[1].valid").value(false));
+    }
+    
+    @Test
+    @DisplayName("Should return 400 Bad Request for batch above maximum size")
+    void shouldReturn400BadRequestForBatchAboveMaximumSize() throws Exception {
+        // Given
+        List<PasswordValidationRequest> requests =
+            Collections.nCopies(1001, new PasswordValidationRequest("AbTp9!fok"));
+        
+        // When & Then
+        mockMvc.perform(post("/api/password/validate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.valid").value(false));
+    }
+    
+    @Test
+    @DisplayName("Should answer unexpected failures with 500 without echoing their message")
+    void shouldAnswerUnexpectedFailuresWith500WithoutEchoingTheirMessage() throws Exception {
+        // Given
+        when(passwordValidationService.validatePasswords(anyList()))
+            .thenThrow(new IllegalStateException("detalhe interno"));
+        
+        // When & Then
+        mockMvc.perform(post("/api/password/validate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"password\": \"AbTp9!fok\"}]"))
+            .andExpect(status().isInternalServerError())
+            .andExpect(jsonPath("$.valid").value(false))
+            .andExpect(jsonPath("$.message").value("Erro interno do servidor"));
+    }
+    
+    @Test
+    @DisplayName("Should keep JSON without outcome code by default")
+    void shouldKeepJsonWithoutOutcomeCodeByDefault() throws Exception {
+        // Given
+        when(passwordValidationService.validatePassword(any(PasswordValidationRequest.class)))
+            .thenReturn(ValidationOutcome.VALID.toResponse());
+        
+        // When & Then
+        mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.ALL)
+                .content("{\"password\": \"AbTp9!fok\"}"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.message").value("Senha válida"))
+            .andExpect(jsonPath("$.code").doesNotExist());
+    }
+    
+    @Test
+    @DisplayName("Should negotiate CBOR with numeric outcome code")
+    void shouldNegotiateCborWithNumericOutcomeCode() throws Exception {
+        // Given
+        CBORMapper cborMapper = new CBORMapper();
+        when(passwordValidationService.validatePassword(any(PasswordValidationRequest.class)))
+            .thenReturn(ValidationOutcome.TOO_SHORT.toResponse());
+        
+        // When
+        byte[] body = mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(new PasswordValidationRequest("aa"))))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+        
+        // Then
+        JsonNode response = cborMapper.readTree(body);
+        assertThat(response.get("valid").asBoolean()).isFalse();
+        assertThat(response.get("code").asInt()).isEqualTo(ValidationOutcome.TOO_SHORT.getCode());
+        assertThat(response.has("message")).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Should negotiate Smile for batch validation")
+    void shouldNegotiateSmileForBatchValidation() throws Exception {
+        // Given
+        SmileMapper smileMapper = new SmileMapper();
+        List<PasswordValidationRequest> requests = List.of(
+            new PasswordValidationRequest("AbTp9!fok"),
+            new PasswordValidationRequest("AbTp9!foA"));
+        
+        when(passwordValidationService.validatePasswords(anyList()))
+            .thenReturn(List.of(
+                ValidationOutcome.VALID.toResponse(),
+                ValidationOutcome.REPEATED_CHARACTERS.toResponse()));
+        
+        // When
+        byte[] body = mockMvc.perform(post("/api/password/validate/batch")
+                .contentType(ContentNegotiationConfig.APPLICATION_SMILE)
+                .accept(ContentNegotiationConfig.APPLICATION_SMILE)
+                .content(smileMapper.writeValueAsBytes(requests)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ContentNegotiationConfig.APPLICATION_SMILE))
+            .andReturn().getResponse().getContentAsByteArray();
+        
+        // Then
+        JsonNode responses = smileMapper.readTree(body);
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).get("code").asInt()).isEqualTo(ValidationOutcome.VALID.getCode());
+        assertThat(responses.get(1).get("code").asInt()).isEqualTo(ValidationOutcome.REPEATED_CHARACTERS.getCode());
+    }
+    
+    @Test
+    @DisplayName("Should keep the message in binary error responses")
+    void shouldKeepMessageInBinaryErrorResponses() throws Exception {
+        // Given
+        CBORMapper cborMapper = new CBORMapper();
+        
+        // When
+        byte[] body = mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(new PasswordValidationRequest(""))))
+            .andExpect(status().isBadRequest())
+            .andReturn().getResponse().getContentAsByteArray();
+        
+        // Then
+        JsonNode response = cborMapper.readTree(body);
+        assertThat(response.get("code").asInt()).isEqualTo(PasswordValidationResponse.CODE_UNSPECIFIED);
+        assertThat(response.get("message").asText()).isEqualTo("A senha não pode estar vazia");
+    }
+    
+    @Test
+    @DisplayName("Should audit each result with the client address")
+    void shouldAuditEachResultWithClientAddress() throws Exception {
+        // Given
+        when(passwordValidationService.validatePasswords(anyList()))
+            .thenReturn(List.of(
+                ValidationOutcome.VALID.toResponse(),
+                ValidationOutcome.TOO_SHORT.toResponse()));
+        
+        // When
+        mockMvc.perform(post("/api/password/validate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"password\": \"AbTp9!fok\"}, {\"password\": \"aa\"}]")
+                .with(request -> {
+                    request.setRemoteAddr("10.1.2.3");
+                    return request;
+                }))
+            .andExpect(status().isOk());
+        
+        // Then
+        verify(auditLog).record("10.1.2.3", ValidationOutcome.VALID.getCode());
+        verify(auditLog).record("10.1.2.3", ValidationOutcome.TOO_SHORT.getCode());
+    }
+    
+    @Test
+    @DisplayName("Should not audit warm-up requests carrying the process token from loopback")
+    void shouldNotAuditWarmupRequestsCarryingTheProcessTokenFromLoopback() throws Exception {
+        // Given
+        when(passwordValidationService.validateWarmupPassword(any(PasswordValidationRequest.class)))
+            .thenReturn(ValidationOutcome.VALID.toResponse());
+        
+        // When
+        mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(JitWarmupRunner.WARMUP_HEADER, warmupRequests.getToken())
+                .content("{\"password\": \"AbTp9!fok\"}")
+                .with(request -> {
+                    request.setRemoteAddr("127.0.0.1");
+                    return request;
+                }))
+            .andExpect(status().isOk());
+        
+        // Then
+        verify(passwordValidationService, never()).validatePassword(any(PasswordValidationRequest.class));
+        verify(auditLog, never()).record(anyString(), anyInt());
+    }
+    
+    @Test
+    @DisplayName("Should audit external requests that forge the warm-up header")
+    void shouldAuditExternalRequestsThatForgeTheWarmupHeader() throws Exception {
+        // Given
+        when(passwordValidationService.validatePassword(any(PasswordValidationRequest.class)))
+            .thenReturn(ValidationOutcome.VALID.toResponse());
+        
+        // When
+        mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(JitWarmupRunner.WARMUP_HEADER, "true")
+                .content("{\"password\": \"AbTp9!fok\"}")
+                .with(request -> {
+                    request.setRemoteAddr("10.1.2.3");
+                    return request;
+                }))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/api/password/validate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(JitWarmupRunner.WARMUP_HEADER, warmupRequests.getToken())
+                .content("{\"password\": \"AbTp9!fok\"}")
+                .with(request -> {
+                    request.setRemoteAddr("10.1.2.4");
+                    return request;
+                }))
+            .andExpect(status().isOk());
+        
+        // Then
+        verify(auditLog).record("10.1.2.3", ValidationOutcome.VALID.getCode());
+        verify(auditLog).record("10.1.2.4", ValidationOutcome.VALID.getCode());
+    }
+}
@@ -0,0 +1,33 @@
+package com.desafio.itau.demo.controller;
+
+import com.desafio.itau.demo.profiling.ProfilingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Testes do registro condicional do ProfilingController
+ */
+@DisplayName("Profiling Controller Condition Tests")
+class ProfilingControllerConditionTest {
+    
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withBean(ProfilingService.class, () -> mock(ProfilingService.class))
+        .withUserConfiguration(ProfilingController.class);
+    
+    @Test
+    @DisplayName("Should not register the profiling endpoints by default")
+    void shouldNotRegisterTheProfilingEndpointsByDefault() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(ProfilingController.class));
+    }
+    
+    @Test
+    @DisplayName("Should register the profiling endpoints only when enabled")
+    void shouldRegisterTheProfilingEndpointsOnlyWhenEnabled() {
+        contextRunner.withPropertyValues("password.profiling.enabled=true")
+            .run(context -> assertThat(context).hasSingleBean(ProfilingController.class));
+    }
+}
@@ -0,0 +1,227 @@
+package com.desafio.itau.demo.filter;
+
+import com.desafio.itau.demo.audit.AuditLog;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.warmup.JitWarmupRunner;
+import com.desafio.itau.demo.warmup.WarmupRequests;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes unitários para o EarlyRejectionFilter
+ */
+@DisplayName("Early Rejection Filter Tests")
+class EarlyRejectionFilterTest {
+
+    private static final int MAX_BODY_BYTES = 256;
+    private static final int MAX_PASSWORD_LENGTH = 16;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WarmupRequests warmupRequests = new WarmupRequests();
+    private AuditLog auditLog;
+    private EarlyRejectionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        auditLog = mock(AuditLog.class);
+        filter = new EarlyRejectionFilter(objectMapper, new ObjectMapper(new CBORFactory()),
+            new ObjectMapper(new SmileFactory()), MAX_BODY_BYTES, MAX_PASSWORD_LENGTH, auditLog, warmupRequests);
+    }
+
+    @Test
+    @DisplayName("Should pass valid JSON through with the body still readable")
+    void shouldPassValidJsonThroughWithBodyStillReadable() throws Exception {
+        // Given
+        MockHttpServletRequest request = post("application/json; charset=UTF-8", "{\"password\": \"AbTp9!fok\"}");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+        assertThat(forwarded).isNotNull();
+        assertThat(forwarded.getInputStream().readAllBytes())
+            .asString(StandardCharsets.UTF_8).isEqualTo("{\"password\": \"AbTp9!fok\"}");
+    }
+
+    @Test
+    @DisplayName("Should pass batches and CBOR bodies within the limits")
+    void shouldPassBatchesAndCborBodiesWithinTheLimits() throws Exception {
+        // Given
+        MockHttpServletRequest batch = post("application/json", "[{\"password\": \"AbTp9!fok\"}, {\"password\": \"aa\"}]");
+        MockHttpServletRequest cbor = new MockHttpServletRequest("POST", "/api/password/validate");
+        cbor.setContentType("application/cbor");
+        cbor.setContent(new ObjectMapper(new CBORFactory()).writeValueAsBytes(Map.of("password", "AbTp9!fok")));
+        MockFilterChain batchChain = new MockFilterChain();
+        MockFilterChain cborChain = new MockFilterChain();
+
+        // When
+        filter.doFilter(batch, new MockHttpServletResponse(), batchChain);
+        filter.doFilter(cbor, new MockHttpServletResponse(), cborChain);
+
+        // Then
+        assertThat(batchChain.getRequest()).isNotNull();
+        assertThat(cborChain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should reject passwords longer than the limit anywhere in the body")
+    void shouldRejectPasswordsLongerThanTheLimit() throws Exception {
+        // Given
+        MockHttpServletRequest request = post("application/json",
+            "[{\"password\": \"AbTp9!fok\"}, {\"password\": \"" + "x".repeat(MAX_PASSWORD_LENGTH + 1) + "\"}]");
+
+        // When
+        MockHttpServletResponse response = reject(request);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(message(response)).isEqualTo("A senha deve ter no máximo 16 caracteres");
+        assertThat(filter.getRejectedCount(EarlyRejectionFilter.Reason.PASSWORD_TOO_LONG)).isEqualTo(1);
+        verify(auditLog).record("127.0.0.1", PasswordValidationResponse.CODE_UNSPECIFIED);
+    }
+
+    @Test
+    @DisplayName("Should reject bodies larger than the limit with or without Content-Length")
+    void shouldRejectBodiesLargerThanTheLimit() throws Exception {
+        // Given
+        String oversized = "{\"password\": \"AbTp9!fok\", \"padding\": \"" + "x".repeat(MAX_BODY_BYTES) + "\"}";
+        MockHttpServletRequest declared = post("application/json", oversized);
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/api/password/validate") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.setContentType("application/json");
+        chunked.setContent(oversized.getBytes(StandardCharsets.UTF_8));
+
+        // When / Then
+        assertThat(reject(declared).getStatus()).isEqualTo(413);
+        assertThat(reject(chunked).getStatus()).isEqualTo(413);
+        assertThat(filter.getRejectedCount(EarlyRejectionFilter.Reason.BODY_TOO_LARGE)).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "{\"password\": ", "{\"password\": \"AbTp9!fok\"", "{\"password\": \"AbTp9!fok\"} {}", "nada"})
+    @DisplayName("Should reject malformed JSON")
+    void shouldRejectMalformedJson(String body) throws Exception {
+        // When
+        MockHttpServletResponse response = reject(post("application/json", body));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(message(response)).isEqualTo("JSON inválido");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"text/plain", "application/xml", "application/jsonp"})
+    @DisplayName("Should reject unsupported content types")
+    void shouldRejectUnsupportedContentTypes(String contentType) throws Exception {
+        // When
+        MockHttpServletResponse response = reject(post(contentType, "{\"password\": \"AbTp9!fok\"}"));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(415);
+        assertThat(message(response)).isEqualTo("Tipo de mídia não suportado");
+    }
+
+    @Test
+    @DisplayName("Should answer rejections in the encoding requested by Accept")
+    void shouldAnswerRejectionsInTheEncodingRequestedByAccept() throws Exception {
+        // Given
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        MockHttpServletRequest cbor = new MockHttpServletRequest("POST", "/api/password/validate");
+        cbor.setContentType("application/cbor");
+        cbor.addHeader("Accept", "application/cbor");
+        cbor.setContent(cborMapper.writeValueAsBytes(Map.of("password", "x".repeat(MAX_PASSWORD_LENGTH + 1))));
+        MockHttpServletRequest smile = post("application/json", "nada");
+        smile.addHeader("Accept", "text/html, application/x-jackson-smile;q=0.9");
+        MockHttpServletRequest fallback = post("application/json", "nada");
+        fallback.addHeader("Accept", "*/*");
+
+        // When
+        MockHttpServletResponse cborResponse = reject(cbor);
+        MockHttpServletResponse smileResponse = reject(smile);
+        MockHttpServletResponse fallbackResponse = reject(fallback);
+
+        // Then
+        assertThat(cborResponse.getContentType()).isEqualTo("application/cbor");
+        assertThat(cborMapper.readValue(cborResponse.getContentAsByteArray(), PasswordValidationResponse.class)
+            .getMessage()).isEqualTo("A senha deve ter no máximo 16 caracteres");
+        assertThat(smileResponse.getContentType()).isEqualTo("application/x-jackson-smile");
+        assertThat(new ObjectMapper(new SmileFactory())
+            .readValue(smileResponse.getContentAsByteArray(), PasswordValidationResponse.class)
+            .getMessage()).isEqualTo("JSON inválido");
+        assertThat(fallbackResponse.getContentType()).isEqualTo("application/json");
+        assertThat(message(fallbackResponse)).isEqualTo("JSON inválido");
+    }
+
+    @Test
+    @DisplayName("Should reject requests without content type")
+    void shouldRejectRequestsWithoutContentType() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/password/validate");
+        request.setContent("{\"password\": \"AbTp9!fok\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(reject(request).getStatus()).isEqualTo(415);
+    }
+
+    @Test
+    @DisplayName("Should count but not audit rejected warm-up requests")
+    void shouldCountButNotAuditRejectedWarmupRequests() throws Exception {
+        // Given
+        MockHttpServletRequest request = post("application/json", "{ invalido }");
+        request.addHeader(JitWarmupRunner.WARMUP_HEADER, warmupRequests.getToken());
+
+        // When
+        MockHttpServletResponse response = reject(request);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(filter.getRejectedCount(EarlyRejectionFilter.Reason.MALFORMED_BODY)).isEqualTo(1);
+        verify(auditLog, never()).record(anyString(), anyInt());
+    }
+
+    private static MockHttpServletRequest post(String contentType, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/password/validate");
+        request.setContentType(contentType);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /**
+     * Executa o filtro esperando a rejeição: a cadeia não pode ser chamada
+     */
+    private MockHttpServletResponse reject(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        assertThat(chain.getRequest()).as("requisição repassada ao Spring MVC").isNull();
+        return response;
+    }
+
+    private String message(MockHttpServletResponse response) throws Exception {
+        return objectMapper.readValue(response.getContentAsByteArray(), PasswordValidationResponse.class).getMessage();
+    }
+}
@@ -0,0 +1,93 @@
+package com.desafio.itau.demo.generator;
+
+import com.desafio.itau.demo.validator.BannedSubstringRule;
+import com.desafio.itau.demo.validator.PasswordValidatorChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o PasswordGeneratorImpl
+ * Toda senha gerada deve ser aceita pela mesma cadeia de regras da API
+ */
+@DisplayName("Password Generator Tests")
+class PasswordGeneratorImplTest {
+    
+    private final PasswordValidatorChain passwordValidator = PasswordValidatorChain.withDefaultRules();
+    
+    @ParameterizedTest
+    @ValueSource(ints = {9, 12, 16, 40, 74})
+    @DisplayName("Should generate passwords accepted by the full validator chain")
+    void shouldGeneratePasswordsAcceptedByTheFullValidatorChain(int length) {
+        PasswordGeneratorImpl generator = new PasswordGeneratorImpl(length);
+        
+        for (int i = 0; i < 20_000; i++) {
+            String password = generator.generate();
+            
+            assertThat(password).hasSize(length);
+            assertThat(passwordValidator.validate(password).isValid())
+                .withFailMessage("Generated password '%s' should be valid", password)
+                .isTrue();
+        }
+    }
+    
+    @Test
+    @DisplayName("Should stream one valid password per line")
+    void shouldStreamOneValidPasswordPerLine() throws Exception {
+        PasswordGeneratorImpl generator = new PasswordGeneratorImpl(12);
+        StringWriter writer = new StringWriter();
+        
+        generator.generate(500, writer);
+        
+        String[] lines = writer.toString().split("\n");
+        assertThat(lines).hasSize(500);
+        assertThat(lines).allSatisfy(line -> assertThat(passwordValidator.validate(line).isValid()).isTrue());
+    }
+    
+    @Test
+    @DisplayName("Should regenerate passwords that contain a banned term")
+    void shouldRegeneratePasswordsThatContainABannedTerm() {
+        // Given - termos de um caractere tornam o descarte frequente
+        BannedSubstringRule rule = new BannedSubstringRule(List.of("a", "b", "c", "x", "1", "!"));
+        PasswordGeneratorImpl generator = new PasswordGeneratorImpl(16, rule);
+        
+        for (int i = 0; i < 2_000; i++) {
+            // When
+            String password = generator.generate();
+            
+            // Then
+            assertThat(password).hasSize(16).doesNotContainPattern("[aAbBcCxX1!]");
+            assertThat(passwordValidator.validate(password).isValid()).isTrue();
+        }
+    }
+    
+    @Test
+    @DisplayName("Should not repeat passwords")
+    void shouldNotRepeatPasswords() {
+        PasswordGeneratorImpl generator = new PasswordGeneratorImpl(16);
+        Set<String> passwords = new HashSet<>();
+        
+        for (int i = 0; i < 10_000; i++) {
+            passwords.add(generator.generate());
+        }
+        
+        assertThat(passwords).hasSize(10_000);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(ints = {8, 75})
+    @DisplayName("Should reject lengths that cannot satisfy the rules")
+    void shouldRejectLengthsThatCannotSatisfyTheRules(int length) {
+        assertThatThrownBy(() -> new PasswordGeneratorImpl(length))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,92 @@
+package com.desafio.itau.demo.profiling;
+
+import com.desafio.itau.demo.exception.ProfilingStateException;
+import com.desafio.itau.demo.model.ProfilingReport;
+import com.desafio.itau.demo.model.ProfilingStatus;
+import com.desafio.itau.demo.validator.PasswordValidatorImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o ProfilingServiceImpl
+ */
+@DisplayName("Profiling Service Tests")
+class ProfilingServiceImplTest {
+    
+    private ProfilingServiceImpl profilingService;
+    
+    @BeforeEach
+    void setUp() {
+        profilingService = new ProfilingServiceImpl(Duration.ofMinutes(1), DataSize.ofMegabytes(16), 10);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (profilingService.status().isRecording()) {
+            profilingService.stop();
+        }
+    }
+    
+    @Test
+    @DisplayName("Should be idle before any recording")
+    void shouldBeIdleBeforeAnyRecording() {
+        assertThat(profilingService.status().isRecording()).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Should bound recording duration to configured maximum")
+    void shouldBoundRecordingDurationToConfiguredMaximum() {
+        ProfilingStatus status = profilingService.start(Duration.ofHours(1));
+        
+        assertThat(status.isRecording()).isTrue();
+        assertThat(status.getMaxDurationSeconds()).isEqualTo(60);
+    }
+    
+    @Test
+    @DisplayName("Should reject starting a second recording")
+    void shouldRejectStartingASecondRecording() {
+        profilingService.start(Duration.ofSeconds(30));
+        
+        assertThatThrownBy(() -> profilingService.start(Duration.ofSeconds(30)))
+            .isInstanceOf(ProfilingStateException.class);
+    }
+    
+    @Test
+    @DisplayName("Should reject stopping without a recording")
+    void shouldRejectStoppingWithoutARecording() {
+        assertThatThrownBy(() -> profilingService.stop())
+            .isInstanceOf(ProfilingStateException.class);
+    }
+    
+    @Test
+    @DisplayName("Should report validation stages recorded while profiling")
+    void shouldReportValidationStagesRecordedWhileProfiling() {
+        PasswordValidatorImpl validator = new PasswordValidatorImpl();
+        profilingService.start(Duration.ofSeconds(30));
+        
+        validator.validate("AbTp9!fok");
+        validator.validate("AbTp9!foo");
+        
+        ProfilingReport report = profilingService.stop();
+        
+        assertThat(report.getStages())
+            .anySatisfy(stage -> {
+                assertThat(stage.getStage()).isEqualTo("regra-repeticao");
+                assertThat(stage.getOutcome()).isEqualTo(ValidationStageEvent.OUTCOME_FAILED);
+                assertThat(stage.getCount()).isEqualTo(1);
+            })
+            .anySatisfy(stage -> {
+                assertThat(stage.getStage()).isEqualTo("regra-digito");
+                assertThat(stage.getCount()).isEqualTo(2);
+            });
+        assertThat(profilingService.status().isRecording()).isFalse();
+    }
+}
@@ -0,0 +1,141 @@
+package com.desafio.itau.demo.service;
+
+import com.desafio.itau.demo.config.HashingConfig;
+import com.desafio.itau.demo.model.PasswordHashResponse;
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.validator.PasswordValidatorImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o PasswordHashingServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Password Hashing Service Tests")
+class PasswordHashingServiceImplTest {
+
+    @Mock
+    private PasswordValidationService passwordValidationService;
+
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private ThreadPoolExecutor hashExecutor;
+
+    private PasswordHashingServiceImpl passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        hashExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        passwordHashingService = new PasswordHashingServiceImpl(passwordValidationService, passwordEncoder, hashExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should hash valid password on the dedicated executor")
+    void shouldHashValidPasswordOnDedicatedExecutor() {
+        // Given
+        when(passwordValidationService.validatePassword(any(PasswordValidationRequest.class)))
+            .thenReturn(PasswordValidationResponse.valid("Senha válida"));
+
+        // When
+        PasswordHashResponse response = passwordHashingService
+            .validateAndHash(new PasswordValidationRequest("AbTp9!fok")).join();
+
+        // Then
+        assertThat(response.isValid()).isTrue();
+        assertThat(response.getMessage()).isEqualTo("Senha válida");
+        assertThat(passwordEncoder.matches("AbTp9!fok", response.getHash())).isTrue();
+        assertThat(hashExecutor.getTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hash a valid password longer than 72 bytes with bcrypt")
+    void shouldHashAValidPasswordLongerThan72BytesWithBcrypt() {
+        // Given - 100 caracteres distintos, 126 bytes em UTF-8
+        String password = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789"
+            + PasswordValidatorImpl.SPECIAL_CHARACTERS + "àáâãäåæçèéêëìíîïðñòóôõöøùú";
+        PasswordEncoder bcrypt = new HashingConfig().passwordHashEncoder("bcrypt", 19456, 2, 1, 4);
+        PasswordHashingServiceImpl bcryptHashingService = new PasswordHashingServiceImpl(
+            new PasswordValidationServiceImpl(new PasswordValidatorImpl(), null, null), bcrypt, hashExecutor);
+
+        // When
+        PasswordHashResponse response = bcryptHashingService
+            .validateAndHash(new PasswordValidationRequest(password)).join();
+
+        // Then
+        assertThat(password).hasSize(100);
+        assertThat(password.getBytes(StandardCharsets.UTF_8).length).isGreaterThan(72);
+        assertThat(response.isValid()).isTrue();
+        assertThat(response.getHash()).startsWith("$2a$04$");
+        assertThat(bcrypt.matches(password, response.getHash())).isTrue();
+        assertThat(bcrypt.matches(password.substring(0, 72), response.getHash())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not hash invalid password")
+    void shouldNotHashInvalidPassword() {
+        // Given
+        when(passwordValidationService.validatePassword(any(PasswordValidationRequest.class)))
+            .thenReturn(PasswordValidationResponse.invalid("Senha deve ter pelo menos 9 caracteres"));
+
+        // When
+        PasswordHashResponse response = passwordHashingService
+            .validateAndHash(new PasswordValidationRequest("aa")).join();
+
+        // Then
+        assertThat(response.isValid()).isFalse();
+        assertThat(response.getHash()).isNull();
+        assertThat(hashExecutor.getTaskCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject hashing when the executor queue is full")
+    void shouldRejectHashingWhenExecutorQueueIsFull() throws Exception {
+        // Given
+        when(passwordValidationService.validatePassword(any(PasswordValidationRequest.class)))
+            .thenReturn(PasswordValidationResponse.valid("Senha válida"));
+        CountDownLatch release = new CountDownLatch(1);
+        hashExecutor.execute(() -> awaitQuietly(release));
+        hashExecutor.execute(() -> awaitQuietly(release));
+
+        try {
+            // When & Then
+            assertThatThrownBy(() -> passwordHashingService.validateAndHash(new PasswordValidationRequest("AbTp9!fok")))
+                .isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
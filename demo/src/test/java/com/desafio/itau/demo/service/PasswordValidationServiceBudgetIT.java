@@ -0,0 +1,85 @@
+package com.desafio.itau.demo.service;
+
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.model.UserContext;
+import com.desafio.itau.demo.validator.BannedSubstringRule;
+import com.desafio.itau.demo.validator.PasswordValidatorChain;
+import com.desafio.itau.demo.validator.PasswordValidatorImpl;
+import com.desafio.itau.demo.validator.UserContextSimilarityRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static com.desafio.itau.demo.budget.PerformanceBudget.allocatedBytesPerCall;
+import static com.desafio.itau.demo.budget.PerformanceBudget.latencyBound;
+import static com.desafio.itau.demo.budget.PerformanceBudget.nanosPerCall;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Orçamentos de alocação e latência do PasswordValidationServiceImpl
+ * Usa a cadeia real com os termos proibidos e a regra de dados do usuário; um
+ * log por chamada em nível ativo ou uma regra que aloque no caminho quente
+ * (requisições sem dados do usuário) estoura o orçamento
+ */
+@DisplayName("Password Validation Service Budget Tests")
+class PasswordValidationServiceBudgetIT {
+
+    // Válida, reprovada nas regras básicas e reprovada pelos termos proibidos
+    private static final String[] PASSWORDS = {"AbTp9!fok", "aa", "Qwerty9!x"};
+
+    // Cabeçalho do objeto, boolean e referência para a mensagem, com ou sem compressed oops
+    private static final double RESPONSE_BYTES = 32;
+
+    private final PasswordValidationService passwordValidationService = new PasswordValidationServiceImpl(
+        new PasswordValidatorChain(new PasswordValidatorImpl(),
+            List.of(BannedSubstringRule.withDefaultTerms(),
+                new UserContextSimilarityRule(2, 3))), null, null);
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2})
+    @DisplayName("Should allocate only the response when validating through the service")
+    void shouldAllocateOnlyResponseWhenValidatingThroughService(int index) {
+        // Given
+        PasswordValidationRequest request = new PasswordValidationRequest(PASSWORDS[index]);
+
+        // When
+        double bytes = allocatedBytesPerCall(() -> passwordValidationService.validatePassword(request));
+
+        // Then
+        assertThat(bytes).as("bytes alocados por validatePassword(\"%s\")", request.getPassword())
+            .isLessThanOrEqualTo(RESPONSE_BYTES);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 2})
+    @DisplayName("Should validate through the service within the steady-state latency budget")
+    void shouldValidateThroughServiceWithinSteadyStateLatencyBudget(int index) {
+        // Given
+        PasswordValidationRequest request = new PasswordValidationRequest(PASSWORDS[index]);
+
+        // When
+        double nanos = nanosPerCall(() -> passwordValidationService.validatePassword(request));
+
+        // Then
+        assertThat(nanos).as("ns por validatePassword(\"%s\")", request.getPassword())
+            .isLessThan(latencyBound(2_000));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 2})
+    @DisplayName("Should compare with every user context field within the latency budget")
+    void shouldCompareWithEveryUserContextFieldWithinLatencyBudget(int index) {
+        // Given - a senha válida percorre todos os termos derivados dos dados do usuário
+        PasswordValidationRequest request = new PasswordValidationRequest(PASSWORDS[index],
+            new UserContext("joao.silva", "joao.silva@exemplo.com", "João da Silva", "1990-05-17"));
+
+        // When
+        double nanos = nanosPerCall(() -> passwordValidationService.validatePassword(request));
+
+        // Then
+        assertThat(nanos).as("ns por validatePassword(\"%s\") com dados do usuário", request.getPassword())
+            .isLessThan(latencyBound(3_000));
+    }
+}
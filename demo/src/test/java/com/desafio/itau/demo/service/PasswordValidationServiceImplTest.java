@@ -0,0 +1,282 @@
+package com.desafio.itau.demo.service;
+
+import com.desafio.itau.demo.check.PasswordCheck;
+import com.desafio.itau.demo.check.PasswordCheckRunner;
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.UserContext;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import com.desafio.itau.demo.shadow.ShadowEvaluator;
+import com.desafio.itau.demo.validator.PasswordValidator;
+import com.desafio.itau.demo.validator.UserContextSimilarityRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o PasswordValidationServiceImpl
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Password Validation Service Tests")
+class PasswordValidationServiceImplTest {
+    
+    @Mock
+    private PasswordValidator passwordValidator;
+    
+    private PasswordValidationServiceImpl passwordValidationService;
+    
+    @BeforeEach
+    void setUp() {
+        passwordValidationService = new PasswordValidationServiceImpl(passwordValidator, null, null);
+    }
+    
+    @Test
+    @DisplayName("Should return valid response when validator returns valid")
+    void shouldReturnValidResponseWhenValidatorReturnsValid() {
+        // Given
+        PasswordValidationRequest request = new PasswordValidationRequest("AbTp9!fok");
+        PasswordValidationResponse expectedResponse = PasswordValidationResponse.valid("Senha válida");
+        
+        when(passwordValidator.validate("AbTp9!fok")).thenReturn(expectedResponse);
+        
+        // When
+        PasswordValidationResponse actualResponse = passwordValidationService.validatePassword(request);
+        
+        // Then
+        assertThat(actualResponse).isEqualTo(expectedResponse);
+        verify(passwordValidator).validate("AbTp9!fok");
+    }
+    
+    @Test
+    @DisplayName("Should return invalid response when validator returns invalid")
+    void shouldReturnInvalidResponseWhenValidatorReturnsInvalid() {
+        // Given
+        PasswordValidationRequest request = new PasswordValidationRequest("aa");
+        PasswordValidationResponse expectedResponse = PasswordValidationResponse.invalid("Senha deve ter pelo menos 9 caracteres");
+        
+        when(passwordValidator.validate("aa")).thenReturn(expectedResponse);
+        
+        // When
+        PasswordValidationResponse actualResponse = passwordValidationService.validatePassword(request);
+        
+        // Then
+        assertThat(actualResponse).isEqualTo(expectedResponse);
+        verify(passwordValidator).validate("aa");
+    }
+    
+    @Test
+    @DisplayName("Should pass user context to validator when present")
+    void shouldPassUserContextToValidatorWhenPresent() {
+        // Given
+        UserContext context = new UserContext("joao.silva", null, null, null);
+        PasswordValidationRequest request = new PasswordValidationRequest("J0@oSilv4#", context);
+        PasswordValidationResponse expectedResponse = PasswordValidationResponse.invalid(
+            UserContextSimilarityRule.FAILURE_CODE, "Senha não pode ser parecida com os dados do usuário");
+        
+        when(passwordValidator.validate("J0@oSilv4#", context)).thenReturn(expectedResponse);
+        
+        // When
+        PasswordValidationResponse actualResponse = passwordValidationService.validatePassword(request);
+        
+        // Then
+        assertThat(actualResponse).isEqualTo(expectedResponse);
+        verify(passwordValidator, never()).validate("J0@oSilv4#");
+    }
+    
+    @Test
+    @DisplayName("Should handle exception and return error response")
+    void shouldHandleExceptionAndReturnErrorResponse() {
+        // Given
+        PasswordValidationRequest request = new PasswordValidationRequest("AbTp9!fok");
+        
+        when(passwordValidator.validate("AbTp9!fok")).thenThrow(new RuntimeException("Test exception"));
+        
+        // When
+        PasswordValidationResponse actualResponse = passwordValidationService.validatePassword(request);
+        
+        // Then
+        assertThat(actualResponse.isValid()).isFalse();
+        assertThat(actualResponse.getMessage()).isEqualTo("Erro interno durante a validação");
+        verify(passwordValidator).validate("AbTp9!fok");
+    }
+    
+    @Test
+    @DisplayName("Should delegate validation to validator")
+    void shouldDelegateValidationToValidator() {
+        // Given
+        PasswordValidationRequest request = new PasswordValidationRequest("testPassword");
+        PasswordValidationResponse expectedResponse = PasswordValidationResponse.valid("Senha válida");
+        
+        when(passwordValidator.validate("testPassword")).thenReturn(expectedResponse);
+        
+        // When
+        passwordValidationService.validatePassword(request);
+        
+        // Then
+        verify(passwordValidator, times(1)).validate("testPassword");
+    }
+    
+    @Test
+    @DisplayName("Should validate batch preserving request order")
+    void shouldValidateBatchPreservingRequestOrder() {
+        // Given
+        PasswordValidationResponse valid = PasswordValidationResponse.valid("Senha válida");
+        PasswordValidationResponse invalid = PasswordValidationResponse.invalid("Senha deve ter pelo menos 9 caracteres");
+        
+        when(passwordValidator.validate("AbTp9!fok")).thenReturn(valid);
+        when(passwordValidator.validate("aa")).thenReturn(invalid);
+        
+        // When
+        List<PasswordValidationResponse> responses = passwordValidationService.validatePasswords(List.of(
+            new PasswordValidationRequest("aa"),
+            new PasswordValidationRequest("AbTp9!fok"),
+            new PasswordValidationRequest("aa")));
+        
+        // Then
+        assertThat(responses).containsExactly(invalid, valid, invalid);
+    }
+    
+    @Test
+    @DisplayName("Should answer a null batch element with an invalid item instead of failing the batch")
+    void shouldAnswerNullBatchElementWithInvalidItemInsteadOfFailingTheBatch() {
+        // Given
+        PasswordValidationResponse valid = ValidationOutcome.VALID.toResponse();
+        when(passwordValidator.validate("AbTp9!fok")).thenReturn(valid);
+        
+        // When
+        List<PasswordValidationResponse> responses = passwordValidationService.validatePasswords(
+            Arrays.asList(null, new PasswordValidationRequest("AbTp9!fok")));
+        
+        // Then
+        assertThat(responses).containsExactly(ValidationOutcome.EMPTY.toResponse(), valid);
+    }
+    
+    @Test
+    @DisplayName("Should submit the password and current outcome to shadow evaluation")
+    void shouldSubmitPasswordAndCurrentOutcomeToShadowEvaluation() {
+        // Given
+        ShadowEvaluator shadowEvaluator = mock(ShadowEvaluator.class);
+        passwordValidationService = new PasswordValidationServiceImpl(passwordValidator, shadowEvaluator, null);
+        when(passwordValidator.validate("AbTp9!fok")).thenReturn(ValidationOutcome.VALID.toResponse());
+        
+        // When
+        passwordValidationService.validatePassword(new PasswordValidationRequest("AbTp9!fok"));
+        
+        // Then
+        verify(shadowEvaluator).submit("AbTp9!fok", null, ValidationOutcome.VALID.getCode());
+    }
+    
+    @Test
+    @DisplayName("Should not submit warm-up requests to shadow evaluation")
+    void shouldNotSubmitWarmupRequestsToShadowEvaluation() {
+        // Given
+        ShadowEvaluator shadowEvaluator = mock(ShadowEvaluator.class);
+        passwordValidationService = new PasswordValidationServiceImpl(passwordValidator, shadowEvaluator, null);
+        when(passwordValidator.validate("AbTp9!fok")).thenReturn(ValidationOutcome.VALID.toResponse());
+        
+        // When
+        PasswordValidationResponse response =
+            passwordValidationService.validateWarmupPassword(new PasswordValidationRequest("AbTp9!fok"));
+        
+        // Then
+        assertThat(response.isValid()).isTrue();
+        verify(shadowEvaluator, never()).submit(any(), any(), anyInt());
+    }
+    
+    @Test
+    @DisplayName("Should run the external checks of a batch together instead of item by item")
+    void shouldRunTheExternalChecksOfABatchTogetherInsteadOfItemByItem() throws Exception {
+        // Given
+        PasswordCheck slowCheck = mock(PasswordCheck.class);
+        when(slowCheck.getName()).thenReturn("diretorio");
+        when(slowCheck.isSatisfiedBy(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return true;
+        });
+        when(passwordValidator.validate(any())).thenReturn(ValidationOutcome.VALID.toResponse());
+        List<PasswordValidationRequest> requests = IntStream.range(0, 20)
+            .mapToObj(i -> new PasswordValidationRequest("AbTp9!fok" + i))
+            .toList();
+        
+        try (PasswordCheckRunner runner = new PasswordCheckRunner(List.of(slowCheck), Duration.ofSeconds(5),
+                PasswordCheckRunner.FailurePolicy.FAIL_CLOSED, Duration.ZERO, 0)) {
+            passwordValidationService = new PasswordValidationServiceImpl(passwordValidator, null, runner);
+            
+            // When
+            long start = System.nanoTime();
+            List<PasswordValidationResponse> responses = passwordValidationService.validatePasswords(requests);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            
+            // Then - em sequência seriam 20 x 200 ms
+            assertThat(responses).hasSize(20).allMatch(PasswordValidationResponse::isValid);
+            assertThat(elapsedMillis).isLessThan(2000);
+            verify(slowCheck, times(20)).isSatisfiedBy(any(), any());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should not run external checks for warm-up requests")
+    void shouldNotRunExternalChecksForWarmupRequests() throws Exception {
+        // Given
+        PasswordCheck check = mock(PasswordCheck.class);
+        when(check.getName()).thenReturn("diretorio");
+        when(passwordValidator.validate("AbTp9!fok")).thenReturn(ValidationOutcome.VALID.toResponse());
+        
+        try (PasswordCheckRunner runner = new PasswordCheckRunner(List.of(check), Duration.ofSeconds(5),
+                PasswordCheckRunner.FailurePolicy.FAIL_CLOSED, Duration.ZERO, 0)) {
+            passwordValidationService = new PasswordValidationServiceImpl(passwordValidator, null, runner);
+            
+            // When
+            PasswordValidationResponse response =
+                passwordValidationService.validateWarmupPassword(new PasswordValidationRequest("AbTp9!fok"));
+            
+            // Then
+            assertThat(response.isValid()).isTrue();
+            verify(check, never()).isSatisfiedBy(any(), any());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should apply external checks only after local rules pass")
+    void shouldApplyExternalChecksOnlyAfterLocalRulesPass() throws Exception {
+        // Given
+        PasswordCheck check = mock(PasswordCheck.class);
+        when(check.getName()).thenReturn("diretorio");
+        when(check.isSatisfiedBy("AbTp9!fok", null)).thenReturn(false);
+        when(check.getFailureCode()).thenReturn(200);
+        when(check.getFailureMessage()).thenReturn("Senha comprometida");
+        ShadowEvaluator shadowEvaluator = mock(ShadowEvaluator.class);
+        when(passwordValidator.validate("AbTp9!fok")).thenReturn(ValidationOutcome.VALID.toResponse());
+        when(passwordValidator.validate("aa")).thenReturn(ValidationOutcome.TOO_SHORT.toResponse());
+        
+        try (PasswordCheckRunner runner = new PasswordCheckRunner(List.of(check), Duration.ofSeconds(5),
+                PasswordCheckRunner.FailurePolicy.FAIL_CLOSED, Duration.ZERO, 0)) {
+            passwordValidationService = new PasswordValidationServiceImpl(passwordValidator, shadowEvaluator, runner);
+            
+            // When
+            PasswordValidationResponse rejectedByCheck =
+                passwordValidationService.validatePassword(new PasswordValidationRequest("AbTp9!fok"));
+            PasswordValidationResponse rejectedLocally =
+                passwordValidationService.validatePassword(new PasswordValidationRequest("aa"));
+            
+            // Then
+            assertThat(rejectedByCheck.isValid()).isFalse();
+            assertThat(rejectedByCheck.getCode()).isEqualTo(200);
+            assertThat(rejectedLocally.getCode()).isEqualTo(ValidationOutcome.TOO_SHORT.getCode());
+            verify(check, never()).isSatisfiedBy(eq("aa"), any());
+            verify(shadowEvaluator).submit("AbTp9!fok", null, ValidationOutcome.VALID.getCode());
+        }
+    }
+}
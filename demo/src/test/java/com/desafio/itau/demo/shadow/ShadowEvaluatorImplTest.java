@@ -0,0 +1,159 @@
+package com.desafio.itau.demo.shadow;
+
+import com.desafio.itau.demo.model.ShadowEvaluationReport;
+import com.desafio.itau.demo.model.UserContext;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import com.desafio.itau.demo.validator.BannedSubstringRule;
+import com.desafio.itau.demo.validator.PasswordValidator;
+import com.desafio.itau.demo.validator.PasswordValidatorChain;
+import com.desafio.itau.demo.validator.PasswordValidatorImpl;
+import com.desafio.itau.demo.validator.UserContextSimilarityRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o ShadowEvaluatorImpl
+ */
+@DisplayName("Shadow Evaluator Tests")
+class ShadowEvaluatorImplTest {
+
+    private final PasswordValidator currentPolicy = new PasswordValidatorChain(new PasswordValidatorImpl(),
+        List.of(BannedSubstringRule.withDefaultTerms()));
+
+    private ShadowEvaluatorImpl shadowEvaluator;
+
+    @AfterEach
+    void tearDown() {
+        shadowEvaluator.close();
+    }
+
+    @Test
+    @DisplayName("Should build the outcome matrix between current and candidate policies")
+    void shouldBuildOutcomeMatrixBetweenCurrentAndCandidatePolicies() throws Exception {
+        // Given
+        PasswordValidator candidate = new PasswordValidatorChain(new PasswordValidatorImpl(12),
+            List.of(BannedSubstringRule.withDefaultTerms()));
+        shadowEvaluator = new ShadowEvaluatorImpl(candidate, 1, 2, 1.0, 64);
+
+        // When
+        for (String password : List.of("AbTp9!fok", "AbTp9!fokXYZ", "AbTp9!fuk", "aa")) {
+            shadowEvaluator.submit(password, null, currentPolicy.validate(password).getCode());
+        }
+        ShadowEvaluationReport report = awaitEvaluated(4);
+
+        // Then
+        int valid = ValidationOutcome.VALID.getCode();
+        int tooShort = ValidationOutcome.TOO_SHORT.getCode();
+        assertThat(report.getSampled()).isEqualTo(4);
+        assertThat(report.getNewlyRejected()).isEqualTo(2);
+        assertThat(report.getNewlyAccepted()).isZero();
+        assertThat(report.getCurrentPolicyVersion()).isEqualTo(1);
+        assertThat(report.getCandidatePolicyVersion()).isEqualTo(2);
+        assertThat(report.getMatrix()).containsExactlyInAnyOrder(
+            new ShadowEvaluationReport.OutcomePair(valid, tooShort, 2),
+            new ShadowEvaluationReport.OutcomePair(valid, valid, 1),
+            new ShadowEvaluationReport.OutcomePair(tooShort, tooShort, 1));
+        assertThat(report.getMatrix().get(0).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should give the candidate the same user context as the current policy")
+    void shouldGiveTheCandidateTheSameUserContextAsTheCurrentPolicy() throws Exception {
+        // Given
+        PasswordValidator currentWithContext = new PasswordValidatorChain(new PasswordValidatorImpl(),
+            List.of(new UserContextSimilarityRule(2, 3)));
+        PasswordValidator candidate = new PasswordValidatorChain(new PasswordValidatorImpl(8),
+            List.of(new UserContextSimilarityRule(2, 3)));
+        shadowEvaluator = new ShadowEvaluatorImpl(candidate, 1, 2, 1.0, 64);
+        UserContext context = new UserContext("joao.silva", null, "João da Silva", null);
+        String password = "J0@oSilv4#";
+
+        // When
+        shadowEvaluator.submit(password, context, currentWithContext.validate(password, context).getCode());
+        ShadowEvaluationReport report = awaitEvaluated(1);
+
+        // Then
+        assertThat(report.getNewlyAccepted()).isZero();
+        assertThat(report.getMatrix()).extracting(ShadowEvaluationReport.OutcomePair::getCandidateCode)
+            .containsExactly(UserContextSimilarityRule.FAILURE_CODE);
+    }
+
+    @Test
+    @DisplayName("Should sample only the configured fraction of requests")
+    void shouldSampleOnlyConfiguredFractionOfRequests() {
+        // Given
+        shadowEvaluator = new ShadowEvaluatorImpl(currentPolicy, 1, 2, 0.0, 64);
+
+        // When
+        shadowEvaluator.submit("AbTp9!fok", null, ValidationOutcome.VALID.getCode());
+
+        // Then
+        assertThat(shadowEvaluator.report().getSampled()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop evaluations when the queue is full instead of blocking")
+    void shouldDropEvaluationsWhenQueueIsFullInsteadOfBlocking() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordValidator slowCandidate = password -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ValidationOutcome.VALID.toResponse();
+        };
+        shadowEvaluator = new ShadowEvaluatorImpl(slowCandidate, 1, 2, 1.0, 1);
+        shadowEvaluator.submit("AbTp9!fok", null, 0);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        long start = System.nanoTime();
+        shadowEvaluator.submit("AbTp9!fok", null, 0);
+        shadowEvaluator.submit("AbTp9!fok", null, 0);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(awaitEvaluated(2).getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should clear the matrix on reset")
+    void shouldClearMatrixOnReset() throws Exception {
+        // Given
+        shadowEvaluator = new ShadowEvaluatorImpl(currentPolicy, 1, 2, 1.0, 64);
+        shadowEvaluator.submit("AbTp9!fok", null, ValidationOutcome.VALID.getCode());
+        awaitEvaluated(1);
+
+        // When
+        shadowEvaluator.reset();
+
+        // Then
+        ShadowEvaluationReport report = shadowEvaluator.report();
+        assertThat(report.getEvaluated()).isZero();
+        assertThat(report.getMatrix()).isEmpty();
+    }
+
+    private ShadowEvaluationReport awaitEvaluated(long evaluated) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ShadowEvaluationReport report = shadowEvaluator.report();
+        while (report.getEvaluated() < evaluated && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            report = shadowEvaluator.report();
+        }
+        assertThat(report.getEvaluated()).isEqualTo(evaluated);
+        return report;
+    }
+}
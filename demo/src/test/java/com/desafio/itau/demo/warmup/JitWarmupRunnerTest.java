@@ -0,0 +1,76 @@
+package com.desafio.itau.demo.warmup;
+
+import com.desafio.itau.demo.generator.PasswordGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de integração para o JitWarmupRunner
+ * Sobe o servidor embarcado em porta aleatória e verifica que o aquecimento
+ * termina antes de a aplicação aceitar tráfego
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "password.warmup.time-budget=5s",
+        "password.warmup.requests-per-round=100",
+        "password.warmup.concurrency=2",
+        "password.warmup.stable-rounds=1",
+        "logging.level.com.desafio.itau=WARN"
+    }
+)
+@DisplayName("JIT Warm-up Runner Integration Tests")
+class JitWarmupRunnerTest {
+    
+    @Autowired
+    private WarmupHealthIndicator warmupHealthIndicator;
+    
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+    
+    @Autowired
+    private PasswordGenerator passwordGenerator;
+    
+    @Test
+    @DisplayName("Should complete warm-up before accepting traffic")
+    void shouldCompleteWarmupBeforeAcceptingTraffic() {
+        Health health = warmupHealthIndicator.health();
+        
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat((Long) health.getDetails().get("requests")).isPositive();
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+    
+    @Test
+    @DisplayName("Should finish warm-up without failing startup when requests fail")
+    void shouldFinishWarmupWithoutFailingStartupWhenRequestsFail() throws Exception {
+        // Given
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        WarmupHealthIndicator healthIndicator = new WarmupHealthIndicator(true);
+        JitWarmupRunner runner = new JitWarmupRunner(passwordGenerator, healthIndicator, new WarmupRequests(),
+            new MockEnvironment().withProperty("local.server.port", String.valueOf(closedPort)),
+            Duration.ofSeconds(5), 10, 1, Duration.ofMillis(20), 1);
+        
+        // When
+        runner.run(new DefaultApplicationArguments());
+        
+        // Then
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+}
@@ -0,0 +1,136 @@
+package com.desafio.itau.demo.websocket;
+
+import com.desafio.itau.demo.config.WebSocketConfig;
+import com.desafio.itau.demo.model.IncrementalValidationStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de integração para o IncrementalValidationHandler
+ * Conecta ao WebSocket no servidor embarcado e envia edições como o navegador faria
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "password.warmup.enabled=false",
+        "password.websocket.max-length=16"
+    }
+)
+@DisplayName("Incremental Validation WebSocket Integration Tests")
+class IncrementalValidationHandlerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        session = new StandardWebSocketClient()
+            .execute(new TextWebSocketHandler() {
+                @Override
+                protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+                    received.add(message.getPayload());
+                }
+            }, "ws://localhost:" + port + WebSocketConfig.INCREMENTAL_VALIDATION_PATH)
+            .get(5, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        session.close();
+    }
+
+    @Test
+    @DisplayName("Should report rule status for each typed character")
+    void shouldReportRuleStatusForEachTypedCharacter() throws Exception {
+        // Given
+        String password = "AbTp9!fok";
+
+        // When
+        IncrementalValidationStatus status = null;
+        for (int i = 0; i < password.length(); i++) {
+            status = send("{\"seq\": " + i + ", \"op\": \"insert\", \"position\": " + i
+                + ", \"text\": \"" + password.charAt(i) + "\"}");
+            assertThat(status.getSeq()).isEqualTo(i);
+        }
+
+        // Then
+        assertThat(status.isValid()).isTrue();
+        assertThat(status.getMessage()).isEqualTo("Senha válida");
+        assertThat(status.getLength()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Should update status after deleting and resetting")
+    void shouldUpdateStatusAfterDeletingAndResetting() throws Exception {
+        // Given
+        IncrementalValidationStatus repeated = send("{\"op\": \"reset\", \"text\": \"AbTp9!foAk\"}");
+        assertThat(repeated.isNoRepeatedCharacters()).isFalse();
+        assertThat(repeated.getMessage()).isEqualTo("Senha não pode conter caracteres repetidos");
+
+        // When
+        IncrementalValidationStatus afterDelete = send("{\"op\": \"delete\", \"position\": 8, \"count\": 1}");
+
+        // Then
+        assertThat(afterDelete.isValid()).isTrue();
+        assertThat(afterDelete.isNoRepeatedCharacters()).isTrue();
+        assertThat(afterDelete.isMinLength()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should apply additional rules from the validator chain")
+    void shouldApplyAdditionalRulesFromValidatorChain() throws Exception {
+        // When
+        IncrementalValidationStatus status = send("{\"op\": \"reset\", \"text\": \"Qwerty9!x\"}");
+
+        // Then
+        assertThat(status.isValid()).isFalse();
+        assertThat(status.getMessage()).isEqualTo("Senha não pode conter termos proibidos");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid edits without closing the connection")
+    void shouldRejectInvalidEditsWithoutClosingConnection() throws Exception {
+        // When
+        IncrementalValidationStatus outOfRange = send("{\"seq\": 1, \"op\": \"delete\", \"position\": 0, \"count\": 1}");
+        IncrementalValidationStatus tooLong = send("{\"seq\": 2, \"op\": \"reset\", \"text\": \"AbTp9!fokXYZqwe12\"}");
+        IncrementalValidationStatus malformed = send("{ invalid json }");
+        IncrementalValidationStatus valid = send("{\"seq\": 3, \"op\": \"reset\", \"text\": \"AbTp9!fok\"}");
+
+        // Then
+        assertThat(outOfRange.getMessage()).isEqualTo("Edição inválida: posição fora do texto");
+        assertThat(tooLong.getMessage()).isEqualTo("Edição inválida: senha deve ter no máximo 16 caracteres");
+        assertThat(malformed.getMessage()).isEqualTo("Mensagem inválida");
+        assertThat(valid.getSeq()).isEqualTo(3);
+        assertThat(valid.isValid()).isTrue();
+    }
+
+    private IncrementalValidationStatus send(String payload) throws Exception {
+        session.sendMessage(new TextMessage(payload));
+        String response = received.poll(5, TimeUnit.SECONDS);
+        assertThat(response).as("resposta do WebSocket").isNotNull();
+        return objectMapper.readValue(response, IncrementalValidationStatus.class);
+    }
+}
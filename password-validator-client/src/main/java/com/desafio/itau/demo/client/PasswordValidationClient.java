@@ -0,0 +1,434 @@
+package com.desafio.itau.demo.client;
+
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cliente Java da API de validação de senhas
+ *
+ * Chamadas concorrentes feitas dentro de uma janela curta são agrupadas em uma
+ * única requisição a /api/password/validate/batch, enviada por um HttpClient
+ * compartilhado (HTTP/2 quando o servidor aceita, senão HTTP/1.1 com conexões
+ * keep-alive reaproveitadas). Cada lote respeita o menor prazo entre os
+ * chamadores agrupados e, se a resposta demorar mais que o atraso de hedge,
+ * uma segunda tentativa é disparada em paralelo: a primeira a responder vence
+ * e a outra é cancelada. Falhas de rede e respostas 5xx também consomem essa
+ * segunda tentativa, de modo que cada lote gera no máximo duas requisições.
+ *
+ * Instâncias são thread-safe e devem ser compartilhadas; feche com close().
+ */
+public class PasswordValidationClient implements AutoCloseable {
+
+    static final String BATCH_PATH = "/api/password/validate/batch";
+
+    private static final int MAX_ATTEMPTS = 2;
+    private static final TypeReference<List<PasswordValidationResponse>> RESPONSE_LIST = new TypeReference<>() {};
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI batchUri;
+    private final long batchWindowNanos;
+    private final int maxBatchSize;
+    private final Duration timeout;
+    private final long hedgeDelayNanos;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private List<PendingValidation> pending;
+    private ScheduledFuture<?> flushTask;
+    private boolean closed;
+
+    private PasswordValidationClient(Builder builder) {
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(builder.connectTimeout)
+            .build();
+        this.objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.batchUri = builder.baseUri.resolve(BATCH_PATH);
+        this.batchWindowNanos = builder.batchWindow.toNanos();
+        this.maxBatchSize = builder.maxBatchSize;
+        this.timeout = builder.timeout;
+        this.hedgeDelayNanos = builder.hedgeDelay.toNanos();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "password-validation-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static Builder builder(String baseUri) {
+        return builder(URI.create(baseUri));
+    }
+
+    public static Builder builder(URI baseUri) {
+        return new Builder(baseUri);
+    }
+
+    /**
+     * Valida uma senha aguardando o resultado
+     *
+     * @param password senha a ser validada
+     * @return resultado da validação
+     * @throws PasswordValidationClientException se a API não puder ser consultada dentro do prazo
+     */
+    public PasswordValidationResponse validate(String password) {
+        try {
+            return validateAsync(password).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordValidationClientException("Validação interrompida", e);
+        } catch (ExecutionException e) {
+            throw toClientException(e.getCause());
+        }
+    }
+
+    /**
+     * Valida uma senha de forma assíncrona usando o prazo padrão do cliente
+     */
+    public CompletableFuture<PasswordValidationResponse> validateAsync(String password) {
+        return validateAsync(password, timeout);
+    }
+
+    /**
+     * Valida uma senha de forma assíncrona
+     *
+     * @param password senha a ser validada
+     * @param timeout prazo máximo para obter o resultado
+     * @return future completado com o resultado ou com PasswordValidationClientException
+     */
+    public CompletableFuture<PasswordValidationResponse> validateAsync(String password, Duration timeout) {
+        PendingValidation validation = new PendingValidation(
+            new PasswordValidationRequest(password), System.nanoTime() + timeout.toNanos());
+
+        List<PendingValidation> fullBatch = null;
+        synchronized (lock) {
+            if (closed) {
+                validation.future.completeExceptionally(new PasswordValidationClientException("Cliente encerrado"));
+                return validation.future;
+            }
+            if (pending == null) {
+                pending = new ArrayList<>();
+                flushTask = scheduler.schedule(this::flush, batchWindowNanos, TimeUnit.NANOSECONDS);
+            }
+            pending.add(validation);
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = takePending();
+            }
+        }
+
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return validation.future;
+    }
+
+    /**
+     * Envia as validações pendentes e libera os recursos do cliente.
+     * Aguarda as requisições em andamento terminarem.
+     */
+    @Override
+    public void close() {
+        List<PendingValidation> batch;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            batch = takePending();
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+        httpClient.close();
+        scheduler.shutdownNow();
+    }
+
+    private void flush() {
+        List<PendingValidation> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Retira o lote pendente; deve ser chamado com o lock adquirido
+     */
+    private List<PendingValidation> takePending() {
+        List<PendingValidation> batch = pending;
+        pending = null;
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<PendingValidation> batch) {
+        long deadlineNanos = Long.MAX_VALUE;
+        List<PasswordValidationRequest> requests = new ArrayList<>(batch.size());
+        for (PendingValidation validation : batch) {
+            deadlineNanos = Math.min(deadlineNanos, validation.deadlineNanos);
+            requests.add(validation.request);
+        }
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(requests);
+        } catch (JsonProcessingException e) {
+            failAll(batch, new PasswordValidationClientException("Falha ao serializar o lote", e));
+            return;
+        }
+
+        new HedgedCall(body, deadlineNanos).start().whenComplete((responses, failure) -> {
+            if (failure != null) {
+                failAll(batch, toClientException(failure));
+            } else if (responses.size() != batch.size()) {
+                failAll(batch, new PasswordValidationClientException(String.format(
+                    "API de validação retornou %d resultados para um lote de %d senhas",
+                    responses.size(), batch.size())));
+            } else {
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).future.complete(responses.get(i));
+                }
+            }
+        });
+    }
+
+    private static void failAll(List<PendingValidation> batch, PasswordValidationClientException failure) {
+        for (PendingValidation validation : batch) {
+            validation.future.completeExceptionally(failure);
+        }
+    }
+
+    private static PasswordValidationClientException toClientException(Throwable failure) {
+        while ((failure instanceof CompletionException || failure instanceof ExecutionException)
+                && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (failure instanceof PasswordValidationClientException clientException) {
+            return clientException;
+        }
+        return new PasswordValidationClientException("Falha de comunicação com a API de validação", failure, true);
+    }
+
+    private List<PasswordValidationResponse> parse(HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        if (status == 200) {
+            try {
+                return objectMapper.readValue(response.body(), RESPONSE_LIST);
+            } catch (IOException e) {
+                throw new PasswordValidationClientException("Resposta inválida da API de validação", e);
+            }
+        }
+        throw new PasswordValidationClientException(
+            "API de validação respondeu com status " + status, null, status >= 500);
+    }
+
+    /**
+     * Validação aguardando o envio do lote
+     */
+    private static final class PendingValidation {
+        private final PasswordValidationRequest request;
+        private final long deadlineNanos;
+        private final CompletableFuture<PasswordValidationResponse> future = new CompletableFuture<>();
+
+        private PendingValidation(PasswordValidationRequest request, long deadlineNanos) {
+            this.request = request;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    /**
+     * Envio de um lote com no máximo MAX_ATTEMPTS tentativas, disparadas por
+     * hedge (resposta lenta) ou por retry (falha transitória), o que ocorrer primeiro
+     */
+    private final class HedgedCall {
+        private final byte[] body;
+        private final long deadlineNanos;
+        private final CompletableFuture<List<PasswordValidationResponse>> result = new CompletableFuture<>();
+        private final List<CompletableFuture<?>> inFlight = new CopyOnWriteArrayList<>();
+        private final AtomicInteger launched = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private HedgedCall(byte[] body, long deadlineNanos) {
+            this.body = body;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private CompletableFuture<List<PasswordValidationResponse>> start() {
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0) {
+                result.completeExceptionally(deadlineExceeded());
+                return result;
+            }
+
+            List<ScheduledFuture<?>> timers = new ArrayList<>(2);
+            timers.add(scheduler.schedule(() -> result.completeExceptionally(deadlineExceeded()),
+                remaining, TimeUnit.NANOSECONDS));
+            if (remaining > hedgeDelayNanos) {
+                timers.add(scheduler.schedule(this::launch, hedgeDelayNanos, TimeUnit.NANOSECONDS));
+            }
+            result.whenComplete((responses, failure) -> {
+                timers.forEach(timer -> timer.cancel(false));
+                inFlight.forEach(call -> call.cancel(true));
+            });
+
+            launch();
+            return result;
+        }
+
+        private void launch() {
+            int attempt;
+            do {
+                attempt = launched.get();
+                if (attempt >= MAX_ATTEMPTS || result.isDone()) {
+                    return;
+                }
+            } while (!launched.compareAndSet(attempt, attempt + 1));
+
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0) {
+                onFailure(deadlineExceeded());
+                return;
+            }
+
+            HttpRequest request = HttpRequest.newBuilder(batchUri)
+                .timeout(Duration.ofNanos(remaining))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+
+            CompletableFuture<HttpResponse<byte[]>> call =
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+            inFlight.add(call);
+            call.whenComplete((response, failure) -> {
+                if (failure != null) {
+                    onFailure(toClientException(failure));
+                    return;
+                }
+                try {
+                    result.complete(parse(response));
+                } catch (PasswordValidationClientException e) {
+                    onFailure(e);
+                }
+            });
+            if (result.isDone()) {
+                call.cancel(true);
+            }
+        }
+
+        private void onFailure(PasswordValidationClientException failure) {
+            int failures = failed.incrementAndGet();
+            if (!failure.isRetryable()) {
+                result.completeExceptionally(failure);
+            } else if (launched.get() < MAX_ATTEMPTS && deadlineNanos - System.nanoTime() > 0) {
+                launch();
+            } else if (failures >= launched.get()) {
+                result.completeExceptionally(failure);
+            }
+        }
+
+        private PasswordValidationClientException deadlineExceeded() {
+            return new PasswordValidationClientException("Prazo esgotado aguardando a API de validação");
+        }
+    }
+
+    /**
+     * Builder do cliente com valores padrão adequados a chamadas internas de baixa latência
+     */
+    public static final class Builder {
+        private final URI baseUri;
+        private Duration batchWindow = Duration.ofMillis(2);
+        private int maxBatchSize = 256;
+        private Duration timeout = Duration.ofSeconds(1);
+        private Duration hedgeDelay = Duration.ofMillis(50);
+        private Duration connectTimeout = Duration.ofSeconds(1);
+
+        private Builder(URI baseUri) {
+            if (baseUri == null) {
+                throw new IllegalArgumentException("URI base é obrigatória");
+            }
+            this.baseUri = baseUri;
+        }
+
+        /**
+         * Janela durante a qual chamadas concorrentes são agrupadas no mesmo lote
+         */
+        public Builder batchWindow(Duration batchWindow) {
+            this.batchWindow = requirePositive(batchWindow, "batchWindow");
+            return this;
+        }
+
+        /**
+         * Tamanho a partir do qual o lote é enviado sem esperar o fim da janela;
+         * não deve exceder password.batch.max-size do servidor
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("maxBatchSize deve ser positivo");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Prazo padrão de cada validação, contado a partir da chamada
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = requirePositive(timeout, "timeout");
+            return this;
+        }
+
+        /**
+         * Tempo sem resposta após o qual uma segunda tentativa é disparada;
+         * um valor maior ou igual ao timeout desativa o hedge
+         */
+        public Builder hedgeDelay(Duration hedgeDelay) {
+            this.hedgeDelay = requirePositive(hedgeDelay, "hedgeDelay");
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = requirePositive(connectTimeout, "connectTimeout");
+            return this;
+        }
+
+        public PasswordValidationClient build() {
+            return new PasswordValidationClient(this);
+        }
+
+        private static Duration requirePositive(Duration value, String name) {
+            if (value == null || value.isNegative() || value.isZero()) {
+                throw new IllegalArgumentException(name + " deve ser positivo");
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.desafio.itau.demo.client;
+
+/**
+ * Exceção lançada quando a API de validação não pôde ser consultada
+ * (falha de rede, resposta inesperada ou prazo esgotado)
+ */
+public class PasswordValidationClientException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public PasswordValidationClientException(String message) {
+        this(message, null, false);
+    }
+
+    public PasswordValidationClientException(String message, Throwable cause) {
+        this(message, cause, false);
+    }
+
+    PasswordValidationClientException(String message, Throwable cause, boolean retryable) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    /**
+     * Indica se a falha é transitória e outra tentativa pode ter sucesso
+     */
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
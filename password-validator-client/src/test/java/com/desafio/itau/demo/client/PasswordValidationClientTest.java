@@ -0,0 +1,242 @@
+package com.desafio.itau.demo.client;
+
+import com.desafio.itau.demo.model.PasswordValidationRequest;
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes do PasswordValidationClient contra um servidor HTTP local
+ * que imita o endpoint de validação em lote
+ */
+@DisplayName("Password Validation Client Tests")
+class PasswordValidationClientTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private volatile Responder responder = Responder.OK;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext(PasswordValidationClient.BATCH_PATH, exchange -> {
+            int requestNumber = requestCount.incrementAndGet();
+            List<PasswordValidationRequest> batch = MAPPER.readValue(
+                exchange.getRequestBody(), new TypeReference<List<PasswordValidationRequest>>() {});
+            batchSizes.add(batch.size());
+            try {
+                responder.respond(requestNumber, exchange, batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent calls into few batch requests")
+    void shouldCoalesceConcurrentCallsIntoFewBatchRequests() {
+        // Given
+        try (PasswordValidationClient client = clientBuilder()
+                .batchWindow(Duration.ofMillis(50))
+                .timeout(Duration.ofSeconds(5))
+                .hedgeDelay(Duration.ofSeconds(5))
+                .build()) {
+
+            // When
+            List<CompletableFuture<PasswordValidationResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(client.validateAsync(i % 2 == 0 ? "AbTp9!fok" : "curta" + i));
+            }
+
+            // Then
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).join().isValid()).isEqualTo(i % 2 == 0);
+            }
+            assertThat(requestCount.get()).isLessThan(10);
+            assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(100);
+        }
+    }
+
+    @Test
+    @DisplayName("Should send batch as soon as it reaches maximum size")
+    void shouldSendBatchAsSoonAsItReachesMaximumSize() {
+        // Given
+        try (PasswordValidationClient client = clientBuilder()
+                .batchWindow(Duration.ofSeconds(30))
+                .maxBatchSize(3)
+                .timeout(Duration.ofSeconds(5))
+                .hedgeDelay(Duration.ofSeconds(5))
+                .build()) {
+
+            // When
+            List<CompletableFuture<PasswordValidationResponse>> futures = List.of(
+                client.validateAsync("AbTp9!fok"),
+                client.validateAsync("AbTp9!foA"),
+                client.validateAsync("abc"));
+
+            // Then
+            assertThat(futures).allSatisfy(future -> assertThat(future.join()).isNotNull());
+            assertThat(batchSizes).containsExactly(3);
+        }
+    }
+
+    @Test
+    @DisplayName("Should hedge a slow request and return the fastest response")
+    void shouldHedgeSlowRequestAndReturnFastestResponse() {
+        // Given
+        responder = (requestNumber, exchange, batch) -> {
+            if (requestNumber == 1) {
+                Thread.sleep(3_000);
+            }
+            Responder.OK.respond(requestNumber, exchange, batch);
+        };
+
+        try (PasswordValidationClient client = clientBuilder()
+                .hedgeDelay(Duration.ofMillis(50))
+                .timeout(Duration.ofSeconds(5))
+                .build()) {
+
+            // When
+            long start = System.nanoTime();
+            PasswordValidationResponse response = client.validate("AbTp9!fok");
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            // Then
+            assertThat(response.isValid()).isTrue();
+            assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+            assertThat(requestCount.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Should retry once after a server error")
+    void shouldRetryOnceAfterServerError() {
+        // Given
+        responder = (requestNumber, exchange, batch) -> {
+            if (requestNumber == 1) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            Responder.OK.respond(requestNumber, exchange, batch);
+        };
+
+        try (PasswordValidationClient client = clientBuilder()
+                .timeout(Duration.ofSeconds(5))
+                .hedgeDelay(Duration.ofSeconds(5))
+                .build()) {
+
+            // When
+            PasswordValidationResponse response = client.validate("abc");
+
+            // Then
+            assertThat(response.isValid()).isFalse();
+            assertThat(requestCount.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not retry client errors")
+    void shouldNotRetryClientErrors() {
+        // Given
+        responder = (requestNumber, exchange, batch) -> exchange.sendResponseHeaders(400, -1);
+
+        try (PasswordValidationClient client = clientBuilder()
+                .timeout(Duration.ofSeconds(5))
+                .hedgeDelay(Duration.ofSeconds(5))
+                .build()) {
+
+            // When & Then
+            assertThatThrownBy(() -> client.validate("AbTp9!fok"))
+                .isInstanceOf(PasswordValidationClientException.class)
+                .hasMessageContaining("400");
+            assertThat(requestCount.get()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail when the deadline expires")
+    void shouldFailWhenDeadlineExpires() {
+        // Given
+        responder = (requestNumber, exchange, batch) -> {
+            Thread.sleep(2_000);
+            Responder.OK.respond(requestNumber, exchange, batch);
+        };
+
+        try (PasswordValidationClient client = clientBuilder()
+                .timeout(Duration.ofMillis(200))
+                .hedgeDelay(Duration.ofMillis(50))
+                .build()) {
+
+            // When
+            long start = System.nanoTime();
+
+            // Then
+            assertThatThrownBy(() -> client.validate("AbTp9!fok"))
+                .isInstanceOf(PasswordValidationClientException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+        }
+    }
+
+    private PasswordValidationClient.Builder clientBuilder() {
+        return PasswordValidationClient.builder("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    /**
+     * Comportamento do servidor para cada requisição recebida
+     */
+    @FunctionalInterface
+    private interface Responder {
+
+        Responder OK = (requestNumber, exchange, batch) -> {
+            List<PasswordValidationResponse> responses = new ArrayList<>(batch.size());
+            for (PasswordValidationRequest request : batch) {
+                responses.add(request.getPassword().length() >= 9
+                    ? PasswordValidationResponse.valid("Senha válida")
+                    : PasswordValidationResponse.invalid("Senha deve ter pelo menos 9 caracteres"));
+            }
+            byte[] body = MAPPER.writeValueAsBytes(responses);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        };
+
+        void respond(int requestNumber, HttpExchange exchange, List<PasswordValidationRequest> batch)
+            throws IOException, InterruptedException;
+    }
+}
@@ -0,0 +1,75 @@
+package com.desafio.itau.demo.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.Objects;
+
+/**
+ * DTO para requisição de validação de senha
+ */
+@Schema(description = "Requisição para validação de senha")
+public class PasswordValidationRequest {
+
+    @NotBlank(message = "A senha não pode estar vazia")
+    @Schema(
+        description = "Senha a ser validada",
+        example = "AbTp9!fok",
+        minLength = 1
+    )
+    private String password;
+
+    @Valid
+    @Schema(description = "Dados opcionais do usuário; quando informados, a senha não pode ser parecida com eles")
+    private UserContext context;
+
+    public PasswordValidationRequest() {
+    }
+
+    public PasswordValidationRequest(String password) {
+        this.password = password;
+    }
+
+    public PasswordValidationRequest(String password, UserContext context) {
+        this.password = password;
+        this.context = context;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public UserContext getContext() {
+        return context;
+    }
+
+    public void setContext(UserContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PasswordValidationRequest other)) {
+            return false;
+        }
+        return Objects.equals(password, other.password) && Objects.equals(context, other.context);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(password, context);
+    }
+
+    @Override
+    public String toString() {
+        return "PasswordValidationRequest(password=" + password + ", context=" + context + ")";
+    }
+}
@@ -0,0 +1,104 @@
+package com.desafio.itau.demo.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Objects;
+
+/**
+ * DTO para resposta de validação de senha
+ */
+@Schema(description = "Resposta da validação de senha")
+public class PasswordValidationResponse {
+
+    /**
+     * Código das respostas que não vêm de uma regra de validação (erros de entrada ou internos)
+     */
+    public static final int CODE_UNSPECIFIED = -1;
+
+    @Schema(
+        description = "Indica se a senha é válida",
+        example = "true"
+    )
+    private boolean valid;
+
+    @Schema(
+        description = "Mensagem descritiva do resultado da validação",
+        example = "Senha válida"
+    )
+    private String message;
+
+    // Código numérico do resultado (ValidationOutcome, regras adicionais a partir de 100 ou
+    // CODE_UNSPECIFIED); fica fora do JSON da API e substitui a mensagem nas codificações binárias
+    @Schema(hidden = true)
+    private int code = CODE_UNSPECIFIED;
+
+    public PasswordValidationResponse() {
+    }
+
+    public PasswordValidationResponse(boolean valid, String message) {
+        this(valid, valid ? ValidationOutcome.VALID.getCode() : CODE_UNSPECIFIED, message);
+    }
+
+    public PasswordValidationResponse(boolean valid, int code, String message) {
+        this.valid = valid;
+        this.code = code;
+        this.message = message;
+    }
+
+    public static PasswordValidationResponse valid(String message) {
+        return new PasswordValidationResponse(true, message);
+    }
+
+    public static PasswordValidationResponse invalid(String message) {
+        return new PasswordValidationResponse(false, message);
+    }
+
+    public static PasswordValidationResponse invalid(int code, String message) {
+        return new PasswordValidationResponse(false, code, message);
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public void setValid(boolean valid) {
+        this.valid = valid;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public void setCode(int code) {
+        this.code = code;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PasswordValidationResponse other)) {
+            return false;
+        }
+        return valid == other.valid && code == other.code && Objects.equals(message, other.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(valid, code, message);
+    }
+
+    @Override
+    public String toString() {
+        return "PasswordValidationResponse(valid=" + valid + ", code=" + code + ", message=" + message + ")";
+    }
+}
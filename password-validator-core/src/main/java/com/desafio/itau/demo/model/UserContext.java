@@ -0,0 +1,98 @@
+package com.desafio.itau.demo.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.Objects;
+
+/**
+ * Dados do usuário dono da senha, opcionais na requisição de validação
+ * Usados para rejeitar senhas parecidas com o nome, o e-mail ou a data de nascimento
+ */
+@Schema(description = "Dados do usuário usados para rejeitar senhas parecidas com eles")
+public class UserContext {
+
+    @Size(max = 256, message = "O nome de usuário deve ter no máximo 256 caracteres")
+    @Schema(description = "Nome de usuário", example = "joao.silva")
+    private String username;
+
+    @Size(max = 256, message = "O e-mail deve ter no máximo 256 caracteres")
+    @Schema(description = "E-mail do usuário", example = "joao.silva@exemplo.com")
+    private String email;
+
+    @Size(max = 256, message = "O nome completo deve ter no máximo 256 caracteres")
+    @Schema(description = "Nome completo do usuário", example = "João da Silva")
+    private String fullName;
+
+    @Pattern(regexp = "\\d{4}-\\d{2}-\\d{2}", message = "A data de nascimento deve estar no formato AAAA-MM-DD")
+    @Schema(description = "Data de nascimento (AAAA-MM-DD)", example = "1990-05-17", format = "date")
+    private String birthDate;
+
+    public UserContext() {
+    }
+
+    public UserContext(String username, String email, String fullName, String birthDate) {
+        this.username = username;
+        this.email = email;
+        this.fullName = fullName;
+        this.birthDate = birthDate;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public String getBirthDate() {
+        return birthDate;
+    }
+
+    public void setBirthDate(String birthDate) {
+        this.birthDate = birthDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserContext other)) {
+            return false;
+        }
+        return Objects.equals(username, other.username)
+            && Objects.equals(email, other.email)
+            && Objects.equals(fullName, other.fullName)
+            && Objects.equals(birthDate, other.birthDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(username, email, fullName, birthDate);
+    }
+
+    @Override
+    public String toString() {
+        return "UserContext(username=" + username + ", email=" + email + ", fullName=" + fullName
+            + ", birthDate=" + birthDate + ")";
+    }
+}
@@ -0,0 +1,52 @@
+package com.desafio.itau.demo.model;
+
+import com.desafio.itau.demo.validator.PasswordValidatorImpl;
+
+/**
+ * Resultado das regras básicas de validação de senha
+ *
+ * Cada valor tem um código numérico estável e a mensagem exposta pela API,
+ * permitindo que chamadores em processo decidam sem comparar strings nem
+ * alocar uma resposta.
+ */
+public enum ValidationOutcome {
+
+    VALID(0, true, "Senha válida"),
+    EMPTY(1, false, "Senha não pode estar vazia"),
+    WHITESPACE(2, false, "Senha não pode conter espaços em branco"),
+    TOO_SHORT(3, false, "Senha deve ter pelo menos " + PasswordValidatorImpl.MIN_LENGTH + " caracteres"),
+    MISSING_DIGIT(4, false, "Senha deve conter pelo menos 1 dígito"),
+    MISSING_LOWERCASE(5, false, "Senha deve conter pelo menos 1 letra minúscula"),
+    MISSING_UPPERCASE(6, false, "Senha deve conter pelo menos 1 letra maiúscula"),
+    MISSING_SPECIAL(7, false, "Senha deve conter pelo menos 1 caractere especial"),
+    REPEATED_CHARACTERS(8, false, "Senha não pode conter caracteres repetidos");
+
+    private final int code;
+    private final boolean valid;
+    private final String message;
+
+    ValidationOutcome(int code, boolean valid, String message) {
+        this.code = code;
+        this.valid = valid;
+        this.message = message;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Cria a resposta da API correspondente a este resultado
+     */
+    public PasswordValidationResponse toResponse() {
+        return new PasswordValidationResponse(valid, code, message);
+    }
+}
@@ -0,0 +1,141 @@
+package com.desafio.itau.demo.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do JDK Flight Recorder para cada etapa de uma requisição de validação
+ * (leitura do corpo, service, cada regra do validador e escrita da resposta).
+ * Fica no módulo core para que as regras sejam cronometradas também quando o
+ * validador é usado em processo; as etapas HTTP são emitidas pela aplicação.
+ *
+ * Desabilitado por padrão: só é gravado quando uma gravação habilita
+ * {@value #NAME}. Desabilitado, o custo é uma verificação de flag e nenhum
+ * objeto é alocado, mesmo antes de o JIT compilar o chamador.
+ */
+@Name(ValidationStageEvent.NAME)
+@Label("Etapa de Validação de Senha")
+@Category({"Desafio Itaú", "Validação de Senhas"})
+@Description("Duração e resultado de uma etapa do processamento de validação de senha")
+@Enabled(false)
+@StackTrace(false)
+public class ValidationStageEvent extends Event {
+
+    public static final String NAME = "com.desafio.itau.ValidationStage";
+
+    public static final String STAGE_BODY_READ = "leitura-corpo";
+    public static final String STAGE_SERVICE = "service";
+    public static final String STAGE_BODY_WRITE = "escrita-resposta";
+
+    public static final String OUTCOME_PASSED = "APROVADA";
+    public static final String OUTCOME_FAILED = "REPROVADA";
+    public static final String OUTCOME_ERROR = "ERRO";
+
+    // Devolvido por start() enquanto o evento está desabilitado; finish() não faz nada nele
+    private static final ValidationStageEvent DISABLED = new ValidationStageEvent(null);
+
+    private static final ThreadLocal<ValidationStageEvent> PENDING_BODY_READ = new ThreadLocal<>();
+    private static final ThreadLocal<ValidationStageEvent> PENDING_BODY_WRITE = new ThreadLocal<>();
+
+    @Label("Etapa")
+    private String stage;
+
+    @Label("Resultado")
+    private String outcome;
+
+    private ValidationStageEvent(String stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Inicia o evento de uma etapa. Permite o idioma
+     * {@code if (!ValidationStageEvent.start(etapa).finish(regra(senha)))}:
+     * o receptor é avaliado antes do argumento, então a regra é cronometrada.
+     */
+    public static ValidationStageEvent start(String stage) {
+        if (!Type.VALUE.isEnabled()) {
+            return DISABLED;
+        }
+        ValidationStageEvent event = new ValidationStageEvent(stage);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Encerra o evento registrando se a etapa foi aprovada
+     *
+     * @return o próprio resultado recebido, para uso em condições
+     */
+    public boolean finish(boolean passed) {
+        finish(passed ? OUTCOME_PASSED : OUTCOME_FAILED);
+        return passed;
+    }
+
+    /**
+     * Encerra o evento com um resultado livre
+     */
+    public void finish(String outcome) {
+        if (this == DISABLED) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+
+    /**
+     * Inicia a etapa de leitura do corpo, que termina em outro callback do framework web.
+     * Só guarda estado por thread quando o evento está habilitado.
+     */
+    public static void beginBodyRead() {
+        beginPending(PENDING_BODY_READ, STAGE_BODY_READ);
+    }
+
+    /**
+     * Encerra a etapa de leitura do corpo pendente na thread atual, se houver
+     */
+    public static void finishBodyRead(String outcome) {
+        finishPending(PENDING_BODY_READ, outcome);
+    }
+
+    public static void beginBodyWrite() {
+        beginPending(PENDING_BODY_WRITE, STAGE_BODY_WRITE);
+    }
+
+    public static void finishBodyWrite(String outcome) {
+        finishPending(PENDING_BODY_WRITE, outcome);
+    }
+
+    private static void beginPending(ThreadLocal<ValidationStageEvent> pending, String stage) {
+        ValidationStageEvent event = start(stage);
+        if (event != DISABLED) {
+            pending.set(event);
+        } else {
+            pending.remove();
+        }
+    }
+
+    private static void finishPending(ThreadLocal<ValidationStageEvent> pending, String outcome) {
+        ValidationStageEvent event = pending.get();
+        if (event != null) {
+            pending.remove();
+            event.finish(outcome);
+        }
+    }
+
+    /**
+     * Tipo do evento, resolvido na primeira utilização; isEnabled() acompanha
+     * as configurações das gravações ativas sem alocar
+     */
+    private static final class Type {
+        private static final EventType VALUE = EventType.getEventType(ValidationStageEvent.class);
+    }
+}
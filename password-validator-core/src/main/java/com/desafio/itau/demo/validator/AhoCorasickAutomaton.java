@@ -0,0 +1,166 @@
+package com.desafio.itau.demo.validator;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Autômato de Aho-Corasick para busca de vários termos em uma única passada,
+ * sem diferenciar maiúsculas de minúsculas
+ *
+ * A trie fica em vetores primitivos: os filhos de cada estado são um trecho
+ * ordenado de {@code childSymbols}/{@code childTargets} (formato CSR), com links
+ * de falha e uma marca de término já propagada pelos links. A busca não aloca
+ * e percorre o texto uma vez, independentemente da quantidade de termos.
+ * Imutável após a construção, pode ser compartilhado entre threads.
+ */
+public final class AhoCorasickAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final int[] childStart;
+    private final char[] childSymbols;
+    private final int[] childTargets;
+    private final int[] failure;
+    private final boolean[] matches;
+
+    private AhoCorasickAutomaton(int[] childStart, char[] childSymbols, int[] childTargets,
+                                 int[] failure, boolean[] matches) {
+        this.childStart = childStart;
+        this.childSymbols = childSymbols;
+        this.childTargets = childTargets;
+        this.failure = failure;
+        this.matches = matches;
+    }
+
+    /**
+     * Constrói o autômato a partir dos termos; termos vazios são ignorados
+     */
+    public static AhoCorasickAutomaton build(Collection<String> patterns) {
+        // Trie temporária com arestas indexadas por (estado << 16 | caractere)
+        Map<Long, Integer> edges = new HashMap<>();
+        int states = 1;
+        boolean[] terminal = new boolean[16];
+
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                long key = edgeKey(state, normalize(pattern.charAt(i)));
+                Integer next = edges.get(key);
+                if (next == null) {
+                    next = states++;
+                    edges.put(key, next);
+                }
+                state = next;
+            }
+            if (state >= terminal.length) {
+                terminal = Arrays.copyOf(terminal, Math.max(state + 1, terminal.length * 2));
+            }
+            terminal[state] = true;
+        }
+
+        // Ordenar as chaves agrupa as arestas por estado e, dentro dele, por caractere
+        long[] keys = new long[edges.size()];
+        int k = 0;
+        for (Long key : edges.keySet()) {
+            keys[k++] = key;
+        }
+        Arrays.sort(keys);
+
+        int[] childStart = new int[states + 1];
+        char[] childSymbols = new char[keys.length];
+        int[] childTargets = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            childStart[(int) (keys[i] >>> 16) + 1]++;
+            childSymbols[i] = (char) (keys[i] & 0xFFFF);
+            childTargets[i] = edges.get(keys[i]);
+        }
+        for (int s = 0; s < states; s++) {
+            childStart[s + 1] += childStart[s];
+        }
+
+        // Links de falha em largura, propagando a marca de término pelos sufixos
+        int[] failure = new int[states];
+        boolean[] matches = Arrays.copyOf(terminal, states);
+        AhoCorasickAutomaton automaton =
+            new AhoCorasickAutomaton(childStart, childSymbols, childTargets, failure, matches);
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = childStart[ROOT]; e < childStart[ROOT + 1]; e++) {
+            queue.add(childTargets[e]);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = childStart[state]; e < childStart[state + 1]; e++) {
+                char symbol = childSymbols[e];
+                int child = childTargets[e];
+                int fallback = failure[state];
+                int target;
+                while ((target = automaton.child(fallback, symbol)) == NONE && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target == NONE ? ROOT : target;
+                matches[child] |= matches[failure[child]];
+                queue.add(child);
+            }
+        }
+
+        return automaton;
+    }
+
+    /**
+     * Verifica se o texto contém algum dos termos
+     */
+    public boolean containsAny(CharSequence text) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char symbol = normalize(text.charAt(i));
+            int next;
+            while ((next = child(state, symbol)) == NONE && state != ROOT) {
+                state = failure[state];
+            }
+            state = next == NONE ? ROOT : next;
+            if (matches[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return quantidade de estados da trie, incluindo a raiz
+     */
+    public int size() {
+        return failure.length;
+    }
+
+    private int child(int state, char symbol) {
+        int low = childStart[state];
+        int high = childStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char current = childSymbols[mid];
+            if (current < symbol) {
+                low = mid + 1;
+            } else if (current > symbol) {
+                high = mid - 1;
+            } else {
+                return childTargets[mid];
+            }
+        }
+        return NONE;
+    }
+
+    private static long edgeKey(int state, char symbol) {
+        return ((long) state << 16) | symbol;
+    }
+
+    private static char normalize(char symbol) {
+        return Character.toLowerCase(symbol);
+    }
+}
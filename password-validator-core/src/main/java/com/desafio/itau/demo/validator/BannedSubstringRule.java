@@ -0,0 +1,101 @@
+package com.desafio.itau.demo.validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Regra que rejeita senhas contendo termos proibidos (nomes da empresa e de produtos,
+ * sequências de teclado como "qwerty", sequências como "1234"), sem diferenciar maiúsculas
+ * A lista é carregada uma vez e compilada em um {@link AhoCorasickAutomaton}
+ */
+public class BannedSubstringRule implements PasswordRule {
+    
+    public static final int FAILURE_CODE = 100;
+    
+    /** Lista embutida no módulo, a mesma usada pela API por padrão */
+    public static final String DEFAULT_TERMS_RESOURCE = "banned-substrings.txt";
+    
+    private static final String NAME = "regra-termos-proibidos";
+    private static final String FAILURE_MESSAGE = "Senha não pode conter termos proibidos";
+    
+    private final AhoCorasickAutomaton automaton;
+    
+    public BannedSubstringRule(Collection<String> patterns) {
+        this.automaton = AhoCorasickAutomaton.build(patterns);
+    }
+    
+    /**
+     * Regra com a lista embutida no módulo ({@link #DEFAULT_TERMS_RESOURCE})
+     */
+    public static BannedSubstringRule withDefaultTerms() {
+        try (InputStream input = BannedSubstringRule.class.getClassLoader()
+                .getResourceAsStream(DEFAULT_TERMS_RESOURCE)) {
+            if (input == null) {
+                throw new IllegalStateException("Lista de termos proibidos não encontrada: " + DEFAULT_TERMS_RESOURCE);
+            }
+            return new BannedSubstringRule(readPatterns(input));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao carregar termos proibidos de " + DEFAULT_TERMS_RESOURCE, e);
+        }
+    }
+    
+    /**
+     * @return quantidade de estados do autômato, para diagnóstico
+     */
+    public int getAutomatonSize() {
+        return automaton.size();
+    }
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public boolean isSatisfiedBy(String password) {
+        return !automaton.containsAny(password);
+    }
+    
+    /**
+     * Mesma verificação da regra sobre um texto qualquer, sem exigir uma String
+     * 
+     * @return true se o texto contém algum termo proibido
+     */
+    public boolean containsBannedTerm(CharSequence text) {
+        return automaton.containsAny(text);
+    }
+    
+    @Override
+    public String getFailureMessage() {
+        return FAILURE_MESSAGE;
+    }
+    
+    @Override
+    public int getFailureCode() {
+        return FAILURE_CODE;
+    }
+    
+    /**
+     * Lê um termo por linha (UTF-8), ignorando linhas em branco e comentários iniciados por '#'
+     * O fluxo não é fechado
+     */
+    public static List<String> readPatterns(InputStream input) throws IOException {
+        List<String> patterns = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String pattern = line.strip();
+            if (!pattern.isEmpty() && pattern.charAt(0) != '#') {
+                patterns.add(pattern);
+            }
+        }
+        return patterns;
+    }
+}
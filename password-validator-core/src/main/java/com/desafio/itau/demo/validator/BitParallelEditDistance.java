@@ -0,0 +1,113 @@
+package com.desafio.itau.demo.validator;
+
+/**
+ * Distância de edição (Levenshtein) pelo algoritmo bit-paralelo de Myers (1999),
+ * na formulação de Hyyrö para a distância global
+ *
+ * O padrão, de até 64 símbolos, vira um vetor de ocorrências por símbolo
+ * ({@code masks[símbolo]} tem o bit i ligado se o padrão tem esse símbolo na
+ * posição i) e cada coluna da matriz de programação dinâmica é atualizada com
+ * poucas operações sobre {@code long}, em O(n) para um texto de n símbolos.
+ * Os textos são vetores de símbolos já normalizados; símbolos negativos nunca
+ * coincidem com o padrão. Nenhum método aloca memória.
+ */
+public final class BitParallelEditDistance {
+
+    public static final int MAX_PATTERN_LENGTH = Long.SIZE;
+
+    private BitParallelEditDistance() {
+    }
+
+    /**
+     * Liga nos vetores de ocorrência os bits dos {@code length} primeiros símbolos do padrão;
+     * {@code masks} deve estar zerado e ter uma posição por símbolo do alfabeto
+     */
+    public static void loadMasks(byte[] pattern, int length, long[] masks) {
+        if (length < 1 || length > MAX_PATTERN_LENGTH) {
+            throw new IllegalArgumentException(
+                "Padrão deve ter entre 1 e " + MAX_PATTERN_LENGTH + " símbolos: " + length);
+        }
+        for (int i = 0; i < length; i++) {
+            if (pattern[i] >= 0) {
+                masks[pattern[i]] |= 1L << i;
+            }
+        }
+    }
+
+    /**
+     * Zera os vetores usados pelo padrão, deixando {@code masks} pronto para o próximo
+     */
+    public static void clearMasks(byte[] pattern, int length, long[] masks) {
+        for (int i = 0; i < length; i++) {
+            if (pattern[i] >= 0) {
+                masks[pattern[i]] = 0L;
+            }
+        }
+    }
+
+    /**
+     * Distância de edição entre o padrão (carregado em {@code masks}) e o texto inteiro
+     */
+    public static int distance(long[] masks, int patternLength, byte[] text) {
+        long pv = -1L;
+        long mv = 0L;
+        long last = 1L << (patternLength - 1);
+        int score = patternLength;
+
+        for (byte symbol : text) {
+            long eq = symbol >= 0 ? masks[symbol] : 0L;
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & last) != 0) {
+                score++;
+            } else if ((mh & last) != 0) {
+                score--;
+            }
+            // A primeira linha da matriz cresce uma unidade por coluna (D[0][j] = j)
+            ph = (ph << 1) | 1L;
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+        }
+        return score;
+    }
+
+    /**
+     * Menor distância de edição entre o padrão e qualquer trecho do texto;
+     * zero quando o texto contém o padrão. Para assim que chega a {@code stopAt}
+     */
+    public static int bestMatch(long[] masks, int patternLength, byte[] text, int stopAt) {
+        long pv = -1L;
+        long mv = 0L;
+        long last = 1L << (patternLength - 1);
+        int score = patternLength;
+        int best = patternLength;
+
+        for (byte symbol : text) {
+            long eq = symbol >= 0 ? masks[symbol] : 0L;
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & last) != 0) {
+                score++;
+            } else if ((mh & last) != 0) {
+                score--;
+                if (score < best) {
+                    best = score;
+                    if (best <= stopAt) {
+                        return best;
+                    }
+                }
+            }
+            // Um trecho pode começar em qualquer coluna (D[0][j] = 0)
+            ph <<= 1;
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+        }
+        return best;
+    }
+}
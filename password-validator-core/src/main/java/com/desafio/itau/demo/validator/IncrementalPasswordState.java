@@ -0,0 +1,208 @@
+package com.desafio.itau.demo.validator;
+
+import com.desafio.itau.demo.model.ValidationOutcome;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Estado de validação de uma senha que é editada aos poucos (ex.: enquanto o usuário digita)
+ *
+ * Mantém contadores por classe de caractere e o número de ocorrências de cada
+ * caractere, atualizados em O(1) a cada caractere inserido ou removido, de modo
+ * que {@link #outcome()} não precisa percorrer a senha. O resultado é sempre o
+ * mesmo de {@link PasswordValidatorImpl#check(CharSequence)} para o texto atual.
+ *
+ * Não é thread-safe: cada sessão de edição deve ter sua própria instância.
+ */
+public final class IncrementalPasswordState {
+
+    private char[] buffer = new char[16];
+    private int length;
+
+    private int nonBlank;
+    private int whitespace;
+    private int digits;
+    private int lowercase;
+    private int uppercase;
+    private int special;
+
+    // Soma, para cada caractere, das ocorrências além da primeira
+    private int repeated;
+    private final int[] asciiOccurrences = new int[128];
+    private Map<Character, Integer> otherOccurrences;
+
+    /**
+     * Insere texto na posição indicada
+     *
+     * @throws IndexOutOfBoundsException se a posição estiver fora de [0, length]
+     */
+    public void insert(int position, CharSequence text) {
+        Objects.checkIndex(position, length + 1);
+        int count = text.length();
+        ensureCapacity(length + count);
+        System.arraycopy(buffer, position, buffer, position + count, length - position);
+        for (int i = 0; i < count; i++) {
+            char ch = text.charAt(i);
+            buffer[position + i] = ch;
+            count(ch, 1);
+        }
+        length += count;
+    }
+
+    /**
+     * Remove caracteres a partir da posição indicada
+     *
+     * @throws IndexOutOfBoundsException se o intervalo não estiver contido no texto atual
+     */
+    public void delete(int position, int count) {
+        Objects.checkFromIndexSize(position, count, length);
+        for (int i = position; i < position + count; i++) {
+            count(buffer[i], -1);
+        }
+        System.arraycopy(buffer, position + count, buffer, position, length - position - count);
+        // Não deixa restos da senha no buffer
+        Arrays.fill(buffer, length - count, length, '\0');
+        length -= count;
+    }
+
+    /**
+     * Substitui todo o texto, reiniciando os contadores
+     */
+    public void reset(CharSequence text) {
+        Arrays.fill(buffer, 0, length, '\0');
+        Arrays.fill(asciiOccurrences, 0);
+        otherOccurrences = null;
+        length = 0;
+        nonBlank = whitespace = digits = lowercase = uppercase = special = repeated = 0;
+        insert(0, text);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Resultado das regras básicas para o texto atual, na mesma ordem do PasswordValidatorImpl
+     */
+    public ValidationOutcome outcome() {
+        if (nonBlank == 0) {
+            return ValidationOutcome.EMPTY;
+        }
+        if (whitespace > 0) {
+            return ValidationOutcome.WHITESPACE;
+        }
+        if (!hasMinLength()) {
+            return ValidationOutcome.TOO_SHORT;
+        }
+        if (!hasDigit()) {
+            return ValidationOutcome.MISSING_DIGIT;
+        }
+        if (!hasLowercase()) {
+            return ValidationOutcome.MISSING_LOWERCASE;
+        }
+        if (!hasUppercase()) {
+            return ValidationOutcome.MISSING_UPPERCASE;
+        }
+        if (!hasSpecial()) {
+            return ValidationOutcome.MISSING_SPECIAL;
+        }
+        if (repeated > 0) {
+            return ValidationOutcome.REPEATED_CHARACTERS;
+        }
+        return ValidationOutcome.VALID;
+    }
+
+    public boolean hasWhitespace() {
+        return whitespace > 0;
+    }
+
+    public boolean hasMinLength() {
+        return length >= PasswordValidatorImpl.MIN_LENGTH;
+    }
+
+    public boolean hasDigit() {
+        return digits > 0;
+    }
+
+    public boolean hasLowercase() {
+        return lowercase > 0;
+    }
+
+    public boolean hasUppercase() {
+        return uppercase > 0;
+    }
+
+    public boolean hasSpecial() {
+        return special > 0;
+    }
+
+    public boolean hasRepeatedCharacters() {
+        return repeated > 0;
+    }
+
+    /**
+     * Texto atual, para regras que precisam da senha completa
+     */
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+
+    private void count(char ch, int delta) {
+        if (ch > ' ') {
+            nonBlank += delta;
+        }
+        if (Character.isWhitespace(ch)) {
+            whitespace += delta;
+        }
+        if (Character.isDigit(ch)) {
+            digits += delta;
+        }
+        if (Character.isLowerCase(ch)) {
+            lowercase += delta;
+        }
+        if (Character.isUpperCase(ch)) {
+            uppercase += delta;
+        }
+        if (PasswordValidatorImpl.SPECIAL_CHARACTERS.indexOf(ch) >= 0) {
+            special += delta;
+        }
+
+        int before = updateOccurrences(ch, delta);
+        if (delta > 0 ? before >= 1 : before >= 2) {
+            repeated += delta;
+        }
+    }
+
+    /**
+     * Atualiza as ocorrências do caractere e retorna o valor anterior
+     * Caracteres fora do ASCII, raros em senhas, ficam em um mapa criado sob demanda
+     */
+    private int updateOccurrences(char ch, int delta) {
+        if (ch < asciiOccurrences.length) {
+            int before = asciiOccurrences[ch];
+            asciiOccurrences[ch] = before + delta;
+            return before;
+        }
+        if (otherOccurrences == null) {
+            otherOccurrences = new HashMap<>();
+        }
+        Integer before = otherOccurrences.get(ch);
+        int previous = before == null ? 0 : before;
+        if (previous + delta == 0) {
+            otherOccurrences.remove(ch);
+        } else {
+            otherOccurrences.put(ch, previous + delta);
+        }
+        return previous;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.desafio.itau.demo.validator;
+
+import com.desafio.itau.demo.model.UserContext;
+
+/**
+ * Regra adicional de validação de senhas
+ * Executada pelo {@link PasswordValidatorChain} depois das regras básicas do {@link PasswordValidatorImpl}
+ * Implementações devem ser thread-safe: a mesma instância atende requisições concorrentes
+ */
+public interface PasswordRule {
+    
+    /**
+     * @return nome da regra, usado nos eventos de diagnóstico
+     */
+    String getName();
+    
+    /**
+     * Verifica se a senha atende à regra
+     * 
+     * @param password senha já aprovada pelas regras básicas
+     * @return true se a senha atende à regra
+     */
+    boolean isSatisfiedBy(String password);
+    
+    /**
+     * Verifica se a senha atende à regra considerando os dados do usuário
+     * Regras que não usam esses dados não precisam sobrescrever este método
+     * 
+     * @param password senha já aprovada pelas regras básicas
+     * @param context dados do usuário; nulo quando a requisição não os informa
+     * @return true se a senha atende à regra
+     */
+    default boolean isSatisfiedBy(String password, UserContext context) {
+        return isSatisfiedBy(password);
+    }
+    
+    /**
+     * @return mensagem retornada quando a senha não atende à regra
+     */
+    String getFailureMessage();
+    
+    /**
+     * @return código numérico retornado quando a senha não atende à regra;
+     *         a partir de 100, para não colidir com os de ValidationOutcome
+     */
+    int getFailureCode();
+}
@@ -0,0 +1,31 @@
+package com.desafio.itau.demo.validator;
+
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.UserContext;
+
+/**
+ * Interface para validação de senhas
+ * Segue o princípio de inversão de dependência (SOLID)
+ */
+public interface PasswordValidator {
+    
+    /**
+     * Valida se uma senha atende aos critérios de segurança
+     * 
+     * @param password a senha a ser validada
+     * @return PasswordValidationResponse com o resultado da validação
+     */
+    PasswordValidationResponse validate(String password);
+    
+    /**
+     * Valida a senha considerando os dados do usuário dono dela
+     * Validadores que não usam esses dados aplicam apenas as regras da senha
+     * 
+     * @param password a senha a ser validada
+     * @param context dados do usuário; pode ser nulo
+     * @return PasswordValidationResponse com o resultado da validação
+     */
+    default PasswordValidationResponse validate(String password, UserContext context) {
+        return validate(password);
+    }
+} 
\ No newline at end of file
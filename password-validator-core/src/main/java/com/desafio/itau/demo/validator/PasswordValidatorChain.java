@@ -0,0 +1,67 @@
+package com.desafio.itau.demo.validator;
+
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.UserContext;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import com.desafio.itau.demo.profiling.ValidationStageEvent;
+
+import java.util.List;
+
+/**
+ * Cadeia de validação de senhas
+ * Aplica as regras básicas do {@link PasswordValidatorImpl} e, em seguida,
+ * as {@link PasswordRule} informadas, na ordem da lista
+ */
+public class PasswordValidatorChain implements PasswordValidator {
+    
+    private final PasswordValidatorImpl baseValidator;
+    private final PasswordRule[] rules;
+    
+    public PasswordValidatorChain(PasswordValidatorImpl baseValidator, List<PasswordRule> rules) {
+        this.baseValidator = baseValidator;
+        this.rules = rules.toArray(new PasswordRule[0]);
+    }
+    
+    /**
+     * Cadeia com as mesmas regras e padrões da API: regras básicas, termos
+     * proibidos da lista embutida e semelhança com os dados do usuário
+     * Thread-safe, pode ser compartilhada
+     */
+    public static PasswordValidatorChain withDefaultRules() {
+        return new PasswordValidatorChain(new PasswordValidatorImpl(),
+            List.of(BannedSubstringRule.withDefaultTerms(), new UserContextSimilarityRule()));
+    }
+    
+    @Override
+    public PasswordValidationResponse validate(String password) {
+        return applyRules(baseValidator.check(password), password, null);
+    }
+    
+    @Override
+    public PasswordValidationResponse validate(String password, UserContext context) {
+        return applyRules(baseValidator.check(password), password, context);
+    }
+    
+    /**
+     * Valida o texto de uma edição incremental: as regras básicas vêm dos
+     * contadores do estado e só as regras adicionais percorrem a senha
+     */
+    public PasswordValidationResponse validate(IncrementalPasswordState state) {
+        ValidationOutcome outcome = state.outcome();
+        return applyRules(outcome, outcome.isValid() ? state.toString() : null, null);
+    }
+    
+    private PasswordValidationResponse applyRules(ValidationOutcome outcome, String password, UserContext context) {
+        if (!outcome.isValid()) {
+            return baseValidator.toResponse(outcome);
+        }
+        
+        for (PasswordRule rule : rules) {
+            if (!ValidationStageEvent.start(rule.getName()).finish(rule.isSatisfiedBy(password, context))) {
+                return PasswordValidationResponse.invalid(rule.getFailureCode(), rule.getFailureMessage());
+            }
+        }
+        
+        return outcome.toResponse();
+    }
+}
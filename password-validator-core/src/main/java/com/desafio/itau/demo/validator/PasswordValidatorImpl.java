@@ -0,0 +1,255 @@
+package com.desafio.itau.demo.validator;
+
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import com.desafio.itau.demo.profiling.ValidationStageEvent;
+
+/**
+ * Implementação do validador de senhas
+ * Implementa todas as regras de validação especificadas no desafio
+ *
+ * Não guarda estado mutável, então uma única instância pode ser compartilhada entre
+ * threads. As regras percorrem a senha sem alocar: {@link #check(CharSequence)}
+ * não gera lixo e {@link #validate(String)} aloca apenas a resposta. A exceção são
+ * senhas com mais de {@link #NON_ASCII_SCAN_LIMIT} caracteres fora do ASCII, que
+ * custam um bitset de 8 KB para manter a verificação de repetição linear.
+ */
+public class PasswordValidatorImpl implements PasswordValidator {
+
+    public static final String SPECIAL_CHARACTERS = "!@#$%^&*()-+";
+    public static final int MIN_LENGTH = 9;
+
+    // Nomes das regras nos eventos do JDK Flight Recorder
+    private static final String RULE_WHITESPACE = "regra-espacos";
+    private static final String RULE_MIN_LENGTH = "regra-comprimento";
+    private static final String RULE_DIGIT = "regra-digito";
+    private static final String RULE_LOWERCASE = "regra-minuscula";
+    private static final String RULE_UPPERCASE = "regra-maiuscula";
+    private static final String RULE_SPECIAL = "regra-especial";
+    private static final String RULE_REPEATED = "regra-repeticao";
+
+    // Caracteres fora do ASCII comparados com os anteriores antes de recorrer ao bitset do BMP
+    private static final int NON_ASCII_SCAN_LIMIT = 16;
+
+    private final int minLength;
+    private final String tooShortMessage;
+
+    public PasswordValidatorImpl() {
+        this(MIN_LENGTH);
+    }
+
+    /**
+     * Validador com outro comprimento mínimo (ex.: políticas candidatas);
+     * a mensagem de TOO_SHORT cita o comprimento configurado
+     *
+     * @param minLength comprimento mínimo exigido
+     */
+    public PasswordValidatorImpl(int minLength) {
+        if (minLength < 1) {
+            throw new IllegalArgumentException("Comprimento mínimo deve ser positivo: " + minLength);
+        }
+        this.minLength = minLength;
+        this.tooShortMessage = minLength == MIN_LENGTH
+            ? ValidationOutcome.TOO_SHORT.getMessage()
+            : "Senha deve ter pelo menos " + minLength + " caracteres";
+    }
+
+    @Override
+    public PasswordValidationResponse validate(String password) {
+        return toResponse(check(password));
+    }
+
+    /**
+     * Cria a resposta da API para um resultado deste validador, com a mensagem
+     * de TOO_SHORT citando o comprimento mínimo configurado
+     */
+    public PasswordValidationResponse toResponse(ValidationOutcome outcome) {
+        if (outcome == ValidationOutcome.TOO_SHORT) {
+            return new PasswordValidationResponse(false, outcome.getCode(), tooShortMessage);
+        }
+        return outcome.toResponse();
+    }
+
+    /**
+     * Aplica as regras na ordem da API e retorna a primeira que falhar
+     *
+     * @param password a senha a ser validada
+     * @return o resultado da validação, sem alocar
+     */
+    public ValidationOutcome check(CharSequence password) {
+        // Validação de entrada
+        if (password == null || isBlank(password)) {
+            return ValidationOutcome.EMPTY;
+        }
+
+        // Verifica se contém espaços em branco
+        if (!ValidationStageEvent.start(RULE_WHITESPACE).finish(!containsWhitespace(password))) {
+            return ValidationOutcome.WHITESPACE;
+        }
+
+        // Verifica comprimento mínimo
+        if (!ValidationStageEvent.start(RULE_MIN_LENGTH).finish(password.length() >= minLength)) {
+            return ValidationOutcome.TOO_SHORT;
+        }
+
+        // Verifica se contém dígitos
+        if (!ValidationStageEvent.start(RULE_DIGIT).finish(containsDigit(password))) {
+            return ValidationOutcome.MISSING_DIGIT;
+        }
+
+        // Verifica se contém letra minúscula
+        if (!ValidationStageEvent.start(RULE_LOWERCASE).finish(containsLowerCase(password))) {
+            return ValidationOutcome.MISSING_LOWERCASE;
+        }
+
+        // Verifica se contém letra maiúscula
+        if (!ValidationStageEvent.start(RULE_UPPERCASE).finish(containsUpperCase(password))) {
+            return ValidationOutcome.MISSING_UPPERCASE;
+        }
+
+        // Verifica se contém caractere especial
+        if (!ValidationStageEvent.start(RULE_SPECIAL).finish(containsSpecialCharacter(password))) {
+            return ValidationOutcome.MISSING_SPECIAL;
+        }
+
+        // Verifica se não contém caracteres repetidos
+        if (!ValidationStageEvent.start(RULE_REPEATED).finish(!hasRepeatedCharacters(password))) {
+            return ValidationOutcome.REPEATED_CHARACTERS;
+        }
+
+        return ValidationOutcome.VALID;
+    }
+
+    /**
+     * Verifica se a string só contém caracteres removidos por String.trim()
+     */
+    private boolean isBlank(CharSequence password) {
+        for (int i = 0; i < password.length(); i++) {
+            if (password.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se a string contém espaços em branco
+     */
+    private boolean containsWhitespace(CharSequence password) {
+        for (int i = 0; i < password.length(); i++) {
+            if (Character.isWhitespace(password.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se a string contém pelo menos um dígito
+     */
+    private boolean containsDigit(CharSequence password) {
+        for (int i = 0; i < password.length(); i++) {
+            if (Character.isDigit(password.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se a string contém pelo menos uma letra minúscula
+     */
+    private boolean containsLowerCase(CharSequence password) {
+        for (int i = 0; i < password.length(); i++) {
+            if (Character.isLowerCase(password.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se a string contém pelo menos uma letra maiúscula
+     */
+    private boolean containsUpperCase(CharSequence password) {
+        for (int i = 0; i < password.length(); i++) {
+            if (Character.isUpperCase(password.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se a string contém pelo menos um caractere especial
+     */
+    private boolean containsSpecialCharacter(CharSequence password) {
+        for (int i = 0; i < password.length(); i++) {
+            if (SPECIAL_CHARACTERS.indexOf(password.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se a string contém caracteres repetidos
+     * Caracteres ASCII são marcados em um bitset de 128 posições em dois longs;
+     * os primeiros caracteres fora do ASCII, raros em senhas, são comparados com os
+     * anteriores, e a partir de {@link #NON_ASCII_SCAN_LIMIT} deles passam a um bitset
+     * de todo o BMP, de modo que a verificação é O(n) para qualquer entrada
+     */
+    private boolean hasRepeatedCharacters(CharSequence password) {
+        long seenLow = 0L;
+        long seenHigh = 0L;
+        int nonAscii = 0;
+        long[] seenOther = null;
+        for (int i = 0; i < password.length(); i++) {
+            char ch = password.charAt(i);
+            if (ch < 64) {
+                long bit = 1L << ch;
+                if ((seenLow & bit) != 0) {
+                    return true;
+                }
+                seenLow |= bit;
+            } else if (ch < 128) {
+                long bit = 1L << (ch - 64);
+                if ((seenHigh & bit) != 0) {
+                    return true;
+                }
+                seenHigh |= bit;
+            } else if (seenOther == null && ++nonAscii <= NON_ASCII_SCAN_LIMIT) {
+                for (int j = 0; j < i; j++) {
+                    if (password.charAt(j) == ch) {
+                        return true;
+                    }
+                }
+            } else {
+                if (seenOther == null) {
+                    seenOther = markNonAscii(password, i);
+                }
+                // O deslocamento de long usa só os 6 bits menores de ch
+                long bit = 1L << ch;
+                if ((seenOther[ch >>> 6] & bit) != 0) {
+                    return true;
+                }
+                seenOther[ch >>> 6] |= bit;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Bitset do BMP com os caracteres fora do ASCII de password[0, end), já sem repetições
+     */
+    private static long[] markNonAscii(CharSequence password, int end) {
+        long[] seen = new long[(Character.MAX_VALUE + 1) >>> 6];
+        for (int i = 0; i < end; i++) {
+            char ch = password.charAt(i);
+            if (ch >= 128) {
+                seen[ch >>> 6] |= 1L << ch;
+            }
+        }
+        return seen;
+    }
+}
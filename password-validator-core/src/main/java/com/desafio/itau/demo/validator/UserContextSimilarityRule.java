@@ -0,0 +1,222 @@
+package com.desafio.itau.demo.validator;
+
+import com.desafio.itau.demo.model.UserContext;
+
+import java.text.Normalizer;
+
+/**
+ * Regra que rejeita senhas parecidas com os dados do usuário (nome de usuário,
+ * e-mail, nome completo e data de nascimento), quando a requisição os informa
+ *
+ * Senha e dados são normalizados para o mesmo alfabeto: sem maiúsculas, sem
+ * acentos e sem as trocas comuns de letras por dígitos e símbolos ("J0@o" vira
+ * "joao"). A senha é rejeitada se contiver algum dos termos derivados dos dados
+ * ou estiver a até {@code maxDistance} edições de um deles, calculadas com o
+ * {@link BitParallelEditDistance}. Sem dados do usuário a regra não faz nada.
+ */
+public class UserContextSimilarityRule implements PasswordRule {
+
+    public static final int FAILURE_CODE = 101;
+    public static final int DEFAULT_MAX_DISTANCE = 2;
+    public static final int DEFAULT_MIN_TOKEN_LENGTH = 3;
+
+    private static final String NAME = "regra-dados-do-usuario";
+    private static final String FAILURE_MESSAGE = "Senha não pode ser parecida com os dados do usuário";
+
+    /** Letras a-z nos símbolos 0 a 25 e dígitos nos símbolos 26 a 35 */
+    static final int ALPHABET_SIZE = 36;
+    private static final byte NO_SYMBOL = -1;
+    private static final byte[] SYMBOLS = buildSymbolTable();
+
+    /** Posições em "AAAA-MM-DD" de: ano; DDMMAAAA; AAAAMMDD; MMDDAAAA; DDMMAA */
+    private static final int[][] BIRTH_DATE_LAYOUTS = {
+        {0, 1, 2, 3},
+        {8, 9, 5, 6, 0, 1, 2, 3},
+        {0, 1, 2, 3, 5, 6, 8, 9},
+        {5, 6, 8, 9, 0, 1, 2, 3},
+        {8, 9, 5, 6, 2, 3}
+    };
+
+    private final int maxDistance;
+    private final int minTokenLength;
+
+    public UserContextSimilarityRule() {
+        this(DEFAULT_MAX_DISTANCE, DEFAULT_MIN_TOKEN_LENGTH);
+    }
+
+    public UserContextSimilarityRule(int maxDistance, int minTokenLength) {
+        if (maxDistance < 0 || minTokenLength < 1) {
+            throw new IllegalArgumentException("Distância máxima deve ser >= 0 e tamanho mínimo dos termos >= 1");
+        }
+        this.maxDistance = maxDistance;
+        this.minTokenLength = minTokenLength;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isSatisfiedBy(String password) {
+        return true;
+    }
+
+    @Override
+    public boolean isSatisfiedBy(String password, UserContext context) {
+        if (context == null || password == null) {
+            return true;
+        }
+        byte[] text = normalize(password);
+        long[] masks = new long[ALPHABET_SIZE];
+        return !forEachToken(context, (token, length) -> isSimilar(token, length, text, masks));
+    }
+
+    @Override
+    public String getFailureMessage() {
+        return FAILURE_MESSAGE;
+    }
+
+    @Override
+    public int getFailureCode() {
+        return FAILURE_CODE;
+    }
+
+    private boolean isSimilar(byte[] token, int length, byte[] text, long[] masks) {
+        BitParallelEditDistance.loadMasks(token, length, masks);
+        boolean similar = length <= text.length && BitParallelEditDistance.bestMatch(masks, length, text, 0) == 0
+            // A distância nunca é menor que a diferença de tamanho; evita a segunda passada
+            || Math.abs(text.length - length) <= maxDistance
+                && BitParallelEditDistance.distance(masks, length, text) <= maxDistance;
+        BitParallelEditDistance.clearMasks(token, length, masks);
+        return similar;
+    }
+
+    /**
+     * Entrega ao visitante os termos derivados dos dados do usuário, já normalizados:
+     * cada palavra de um campo e o campo inteiro sem separadores; do e-mail só a parte
+     * antes do '@'; da data de nascimento o ano e as combinações usuais de dia, mês e ano.
+     * Os termos são escritos em vetores reaproveitados, válidos só durante a visita
+     *
+     * @return true assim que o visitante retorna true
+     */
+    boolean forEachToken(UserContext context, TokenVisitor visitor) {
+        byte[] word = new byte[BitParallelEditDistance.MAX_PATTERN_LENGTH];
+        byte[] joined = new byte[BitParallelEditDistance.MAX_PATTERN_LENGTH];
+        String username = context.getUsername();
+        String email = context.getEmail();
+        String fullName = context.getFullName();
+        return username != null && visitWords(username, username.length(), word, joined, visitor)
+            || email != null && visitWords(email, localPartEnd(email), word, joined, visitor)
+            || fullName != null && visitWords(fullName, fullName.length(), word, joined, visitor)
+            || visitBirthDate(context.getBirthDate(), word, visitor);
+    }
+
+    private boolean visitWords(String value, int end, byte[] word, byte[] joined, TokenVisitor visitor) {
+        int wordLength = 0;
+        int joinedLength = 0;
+        int words = 0;
+        for (int i = 0; i <= end; i++) {
+            byte symbol = i < end ? symbol(value.charAt(i)) : NO_SYMBOL;
+            if (symbol >= 0) {
+                if (wordLength < word.length) {
+                    word[wordLength++] = symbol;
+                }
+                if (joinedLength < joined.length) {
+                    joined[joinedLength++] = symbol;
+                }
+            } else if (wordLength > 0) {
+                words++;
+                if (visit(word, wordLength, visitor)) {
+                    return true;
+                }
+                wordLength = 0;
+            }
+        }
+        // Com uma única palavra o campo inteiro já foi visitado
+        return words > 1 && visit(joined, joinedLength, visitor);
+    }
+
+    private boolean visitBirthDate(String birthDate, byte[] token, TokenVisitor visitor) {
+        if (birthDate == null || birthDate.length() != 10) {
+            return false;
+        }
+        for (int[] layout : BIRTH_DATE_LAYOUTS) {
+            for (int i = 0; i < layout.length; i++) {
+                token[i] = symbol(birthDate.charAt(layout[i]));
+            }
+            if (visit(token, layout.length, visitor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean visit(byte[] token, int length, TokenVisitor visitor) {
+        return length >= minTokenLength && visitor.visit(token, length);
+    }
+
+    private static int localPartEnd(String email) {
+        int at = email.lastIndexOf('@');
+        return at >= 0 ? at : email.length();
+    }
+
+    private static byte symbol(char c) {
+        return c < SYMBOLS.length ? SYMBOLS[c] : NO_SYMBOL;
+    }
+
+    /**
+     * Recebe cada termo derivado dos dados do usuário
+     */
+    @FunctionalInterface
+    interface TokenVisitor {
+
+        /**
+         * @param token vetor com o termo nos {@code length} primeiros símbolos
+         * @return true para interromper a visita
+         */
+        boolean visit(byte[] token, int length);
+    }
+
+    /**
+     * Converte o texto para o alfabeto da regra; caracteres sem equivalente viram
+     * {@code NO_SYMBOL}, que separa palavras e nunca coincide com um termo
+     */
+    static byte[] normalize(String value) {
+        byte[] symbols = new byte[value.length()];
+        for (int i = 0; i < symbols.length; i++) {
+            symbols[i] = symbol(value.charAt(i));
+        }
+        return symbols;
+    }
+
+    /**
+     * Tabela de símbolos para os caracteres latinos (até U+017F): remove acentos,
+     * ignora maiúsculas e desfaz as substituições por dígitos e símbolos
+     */
+    private static byte[] buildSymbolTable() {
+        byte[] table = new byte[0x180];
+        for (char c = 0; c < table.length; c++) {
+            char base = Character.toLowerCase(Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0));
+            base = switch (base) {
+                case '0' -> 'o';
+                case '1', '!', '|', 'l' -> 'i';
+                case '3' -> 'e';
+                case '4', '@' -> 'a';
+                case '5', '$' -> 's';
+                case '7', '+' -> 't';
+                case '8' -> 'b';
+                case '9' -> 'g';
+                default -> base;
+            };
+            if (base >= 'a' && base <= 'z') {
+                table[c] = (byte) (base - 'a');
+            } else if (base >= '0' && base <= '9') {
+                table[c] = (byte) (26 + base - '0');
+            } else {
+                table[c] = NO_SYMBOL;
+            }
+        }
+        return table;
+    }
+}
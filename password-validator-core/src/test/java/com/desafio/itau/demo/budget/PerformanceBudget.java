@@ -0,0 +1,96 @@
+package com.desafio.itau.demo.budget;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Medições para os testes de orçamento de alocação e latência (*BudgetIT, rodam em mvn verify)
+ *
+ * Cada medição aquece a operação até o JIT compilá-la e então toma várias
+ * amostras, usando a mediana para tolerar pausas de GC e ruído da máquina.
+ * Os bytes alocados vêm do contador por thread do ThreadMXBean, que é exato;
+ * os limites de latência podem ser relaxados em máquinas lentas com
+ * -Dbudget.latency.tolerance=N (multiplicador, padrão 1).
+ */
+public final class PerformanceBudget {
+
+    public static final double LATENCY_TOLERANCE =
+        Double.parseDouble(System.getProperty("budget.latency.tolerance", "1"));
+
+    private static final int WARMUP_CALLS = 200_000;
+    private static final int SAMPLES = 9;
+    private static final int CALLS_PER_SAMPLE = 20_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Mantém o resultado vivo para que o JIT não elimine a operação medida
+    private static volatile Object sink;
+
+    private PerformanceBudget() {
+    }
+
+    /**
+     * Bytes alocados por chamada na thread atual (mediana das amostras)
+     */
+    public static double allocatedBytesPerCall(Supplier<?> operation) {
+        return allocatedBytesPerCall(operation, WARMUP_CALLS, CALLS_PER_SAMPLE);
+    }
+
+    public static double allocatedBytesPerCall(Supplier<?> operation, int warmupCalls, int callsPerSample) {
+        warmUp(operation, warmupCalls);
+        double[] samples = new double[SAMPLES];
+        for (int s = 0; s < SAMPLES; s++) {
+            long before = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < callsPerSample; i++) {
+                sink = operation.get();
+            }
+            long after = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+            samples[s] = (double) (after - before) / callsPerSample;
+        }
+        return median(samples);
+    }
+
+    /**
+     * Tempo médio por chamada em nanossegundos, em regime estável (mediana das amostras)
+     */
+    public static double nanosPerCall(Supplier<?> operation) {
+        return nanosPerCall(operation, WARMUP_CALLS, CALLS_PER_SAMPLE);
+    }
+
+    public static double nanosPerCall(Supplier<?> operation, int warmupCalls, int callsPerSample) {
+        warmUp(operation, warmupCalls);
+        double[] samples = new double[SAMPLES];
+        for (int s = 0; s < SAMPLES; s++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < callsPerSample; i++) {
+                sink = operation.get();
+            }
+            samples[s] = (double) (System.nanoTime() - start) / callsPerSample;
+        }
+        return median(samples);
+    }
+
+    /**
+     * Limite de latência ajustado pela tolerância configurada
+     */
+    public static double latencyBound(double nanos) {
+        return nanos * LATENCY_TOLERANCE;
+    }
+
+    private static void warmUp(Supplier<?> operation, int calls) {
+        if (!THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled()) {
+            THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+        }
+        for (int i = 0; i < calls; i++) {
+            sink = operation.get();
+        }
+    }
+
+    private static double median(double[] samples) {
+        double[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
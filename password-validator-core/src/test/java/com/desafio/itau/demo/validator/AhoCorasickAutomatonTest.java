@@ -0,0 +1,73 @@
+package com.desafio.itau.demo.validator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o AhoCorasickAutomaton
+ */
+@DisplayName("Aho-Corasick Automaton Tests")
+class AhoCorasickAutomatonTest {
+    
+    private final AhoCorasickAutomaton automaton =
+        AhoCorasickAutomaton.build(List.of("he", "she", "his", "hers", "qwerty", "1234"));
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"ushers", "xhisx", "QWERTY", "Ab1234!x", "aqWeRtYz", "sh", "xxhe"})
+    @DisplayName("Should find any pattern regardless of case")
+    void shouldFindAnyPatternRegardlessOfCase(String text) {
+        assertThat(automaton.containsAny(text)).isEqualTo(!text.equals("sh"));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"", "AbTp9!fok", "qwert", "123", "hi"})
+    @DisplayName("Should not match texts without patterns")
+    void shouldNotMatchTextsWithoutPatterns(String text) {
+        assertThat(automaton.containsAny(text)).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Should match patterns reachable only through failure links")
+    void shouldMatchPatternsReachableOnlyThroughFailureLinks() {
+        AhoCorasickAutomaton overlapping = AhoCorasickAutomaton.build(List.of("abcde", "bcd"));
+        
+        assertThat(overlapping.containsAny("xabcdx")).isTrue();
+        assertThat(overlapping.containsAny("xabcx")).isFalse();
+    }
+    
+    @Test
+    @DisplayName("Should agree with naive search for many random patterns")
+    void shouldAgreeWithNaiveSearchForManyRandomPatterns() {
+        Random random = new Random(42);
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            patterns.add(randomText(random, 4 + random.nextInt(4)));
+        }
+        AhoCorasickAutomaton large = AhoCorasickAutomaton.build(patterns);
+        
+        for (int i = 0; i < 2_000; i++) {
+            String text = randomText(random, 12);
+            boolean expected = patterns.stream().anyMatch(text::contains);
+            
+            assertThat(large.containsAny(text))
+                .withFailMessage("Mismatch for '%s'", text)
+                .isEqualTo(expected);
+        }
+    }
+    
+    private static String randomText(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(8)));
+        }
+        return builder.toString();
+    }
+}
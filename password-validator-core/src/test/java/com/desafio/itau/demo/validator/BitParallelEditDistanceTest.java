@@ -0,0 +1,132 @@
+package com.desafio.itau.demo.validator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o BitParallelEditDistance
+ */
+@DisplayName("Bit-Parallel Edit Distance Tests")
+class BitParallelEditDistanceTest {
+
+    private static final int ALPHABET_SIZE = 4;
+
+    @ParameterizedTest
+    @CsvSource({"kitten,sitting,3", "joao,joao,0", "joao,joaosilva,5", "silva,siva,1", "abc,xyz,3", "a,b,1"})
+    @DisplayName("Should compute the classic edit distance")
+    void shouldComputeTheClassicEditDistance(String pattern, String text, int expected) {
+        long[] masks = new long[26];
+        byte[] symbols = letters(pattern);
+        BitParallelEditDistance.loadMasks(symbols, symbols.length, masks);
+
+        assertThat(BitParallelEditDistance.distance(masks, symbols.length, letters(text))).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should match dynamic programming for random strings up to 64 symbols")
+    void shouldMatchDynamicProgrammingForRandomStrings() {
+        // Given
+        Random random = new Random(42);
+        long[] masks = new long[ALPHABET_SIZE];
+
+        for (int round = 0; round < 2000; round++) {
+            byte[] pattern = randomSymbols(random, 1 + random.nextInt(64));
+            byte[] text = randomSymbols(random, random.nextInt(80));
+
+            // When
+            BitParallelEditDistance.loadMasks(pattern, pattern.length, masks);
+            int distance = BitParallelEditDistance.distance(masks, pattern.length, text);
+            int bestMatch = BitParallelEditDistance.bestMatch(masks, pattern.length, text, -1);
+            BitParallelEditDistance.clearMasks(pattern, pattern.length, masks);
+
+            // Then
+            assertThat(distance).isEqualTo(levenshtein(pattern, text, false));
+            assertThat(bestMatch).isEqualTo(levenshtein(pattern, text, true));
+        }
+        assertThat(masks).containsOnly(0L);
+    }
+
+    @Test
+    @DisplayName("Should report zero best match when text contains the pattern")
+    void shouldReportZeroBestMatchWhenTextContainsThePattern() {
+        long[] masks = new long[26];
+        byte[] pattern = letters("silva");
+        BitParallelEditDistance.loadMasks(pattern, pattern.length, masks);
+
+        assertThat(BitParallelEditDistance.bestMatch(masks, pattern.length, letters("xxsilvaxx"), 0)).isZero();
+        assertThat(BitParallelEditDistance.bestMatch(masks, pattern.length, letters("xxsilxaxx"), 0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never match symbols outside the alphabet")
+    void shouldNeverMatchSymbolsOutsideTheAlphabet() {
+        long[] masks = new long[26];
+        byte[] pattern = letters("ab");
+        BitParallelEditDistance.loadMasks(pattern, pattern.length, masks);
+
+        assertThat(BitParallelEditDistance.distance(masks, pattern.length, new byte[] {0, -1})).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject empty or oversized patterns")
+    void shouldRejectEmptyOrOversizedPatterns() {
+        long[] masks = new long[ALPHABET_SIZE];
+
+        assertThatThrownBy(() -> BitParallelEditDistance.loadMasks(new byte[1], 0, masks))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BitParallelEditDistance.loadMasks(new byte[65], 65, masks))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] letters(String value) {
+        byte[] symbols = new byte[value.length()];
+        for (int i = 0; i < symbols.length; i++) {
+            symbols[i] = (byte) (value.charAt(i) - 'a');
+        }
+        return symbols;
+    }
+
+    private static byte[] randomSymbols(Random random, int length) {
+        byte[] symbols = new byte[length];
+        for (int i = 0; i < length; i++) {
+            symbols[i] = (byte) random.nextInt(ALPHABET_SIZE);
+        }
+        return symbols;
+    }
+
+    /**
+     * Programação dinâmica clássica; com {@code substring} o padrão pode começar em qualquer posição do texto
+     */
+    private static int levenshtein(byte[] pattern, byte[] text, boolean substring) {
+        int[] previous = new int[text.length + 1];
+        int[] current = new int[text.length + 1];
+        for (int j = 0; j <= text.length; j++) {
+            previous[j] = substring ? 0 : j;
+        }
+        for (int i = 1; i <= pattern.length; i++) {
+            current[0] = i;
+            for (int j = 1; j <= text.length; j++) {
+                int substitution = previous[j - 1] + (pattern[i - 1] == text[j - 1] ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        if (!substring) {
+            return previous[text.length];
+        }
+        int best = previous[0];
+        for (int value : previous) {
+            best = Math.min(best, value);
+        }
+        return best;
+    }
+}
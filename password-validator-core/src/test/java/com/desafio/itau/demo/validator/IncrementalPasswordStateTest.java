@@ -0,0 +1,108 @@
+package com.desafio.itau.demo.validator;
+
+import com.desafio.itau.demo.model.ValidationOutcome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o IncrementalPasswordState
+ * O resultado incremental deve coincidir com o do PasswordValidatorImpl para o texto atual
+ */
+@DisplayName("Incremental Password State Tests")
+class IncrementalPasswordStateTest {
+
+    private static final String ALPHABET = "aAbB1!2@ \tçÇzZ9#";
+
+    private final PasswordValidatorImpl passwordValidator = new PasswordValidatorImpl();
+
+    @Test
+    @DisplayName("Should follow typing a valid password keystroke by keystroke")
+    void shouldFollowTypingValidPasswordKeystrokeByKeystroke() {
+        // Given
+        IncrementalPasswordState state = new IncrementalPasswordState();
+        String password = "AbTp9!fok";
+
+        // When & Then
+        assertThat(state.outcome()).isEqualTo(ValidationOutcome.EMPTY);
+        for (int i = 0; i < password.length(); i++) {
+            state.insert(i, password.substring(i, i + 1));
+            assertThat(state.outcome()).isEqualTo(passwordValidator.check(password.substring(0, i + 1)));
+        }
+        assertThat(state.outcome()).isEqualTo(ValidationOutcome.VALID);
+        assertThat(state.toString()).isEqualTo(password);
+    }
+
+    @Test
+    @DisplayName("Should clear repetition when the repeated character is deleted")
+    void shouldClearRepetitionWhenRepeatedCharacterIsDeleted() {
+        // Given
+        IncrementalPasswordState state = new IncrementalPasswordState();
+        state.insert(0, "AbTp9!foAk");
+        assertThat(state.outcome()).isEqualTo(ValidationOutcome.REPEATED_CHARACTERS);
+
+        // When
+        state.delete(8, 1);
+
+        // Then
+        assertThat(state.toString()).isEqualTo("AbTp9!fok");
+        assertThat(state.hasRepeatedCharacters()).isFalse();
+        assertThat(state.outcome()).isEqualTo(ValidationOutcome.VALID);
+    }
+
+    @Test
+    @DisplayName("Should match the full validator after random edits")
+    void shouldMatchFullValidatorAfterRandomEdits() {
+        // Given
+        Random random = new Random(42);
+        IncrementalPasswordState state = new IncrementalPasswordState();
+        StringBuilder expected = new StringBuilder();
+
+        for (int i = 0; i < 20_000; i++) {
+            // When
+            if (expected.length() > 0 && random.nextInt(3) == 0) {
+                int position = random.nextInt(expected.length());
+                int count = 1 + random.nextInt(Math.min(3, expected.length() - position));
+                state.delete(position, count);
+                expected.delete(position, position + count);
+            } else {
+                int position = random.nextInt(expected.length() + 1);
+                String text = randomText(random);
+                state.insert(position, text);
+                expected.insert(position, text);
+            }
+            if (expected.length() > 24) {
+                state.reset("");
+                expected.setLength(0);
+            }
+
+            // Then
+            assertThat(state.toString()).isEqualTo(expected.toString());
+            assertThat(state.outcome()).isEqualTo(passwordValidator.check(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject edits outside the current text")
+    void shouldRejectEditsOutsideCurrentText() {
+        IncrementalPasswordState state = new IncrementalPasswordState();
+        state.insert(0, "abc");
+
+        assertThatThrownBy(() -> state.insert(4, "d")).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> state.delete(2, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(state.toString()).isEqualTo("abc");
+    }
+
+    private static String randomText(Random random) {
+        int size = 1 + random.nextInt(2);
+        StringBuilder text = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.desafio.itau.demo.validator;
+
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH do PasswordValidatorImpl usado em processo
+ *
+ * Executar com: ./mvnw -pl password-validator-core -Pbenchmark verify
+ * O perfil roda com "-prof gc"; check deve reportar gc.alloc.rate.norm = 0
+ * e validate apenas o tamanho de uma PasswordValidationResponse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+public class PasswordValidatorBenchmark {
+
+    // Válida, repetida no último caractere, curta e longa válida
+    @Param({"AbTp9!fok", "AbTp9!foA", "aa", "AbTp9!fokXYZqwe12345"})
+    public String password;
+
+    private final PasswordValidatorImpl validator = new PasswordValidatorImpl();
+
+    @Benchmark
+    public ValidationOutcome check() {
+        return validator.check(password);
+    }
+
+    @Benchmark
+    public PasswordValidationResponse validate() {
+        return validator.validate(password);
+    }
+}
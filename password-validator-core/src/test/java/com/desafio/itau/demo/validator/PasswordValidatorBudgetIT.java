@@ -0,0 +1,64 @@
+package com.desafio.itau.demo.validator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.desafio.itau.demo.budget.PerformanceBudget.allocatedBytesPerCall;
+import static com.desafio.itau.demo.budget.PerformanceBudget.latencyBound;
+import static com.desafio.itau.demo.budget.PerformanceBudget.nanosPerCall;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Orçamentos de alocação e latência do PasswordValidatorImpl
+ * Uma regra que volte a usar streams ou boxing no caminho quente estoura o orçamento
+ */
+@DisplayName("Password Validator Budget Tests")
+class PasswordValidatorBudgetIT {
+
+    // Uma senha por resultado possível das regras, incluindo o caminho completo (válida)
+    private static final String[] PASSWORDS = {
+        "", "AbTp9 fok", "aa", "Abcdefgh!", "ABCDEFGH1!", "abcdefgh1!", "Abcdefgh1", "AbTp9!foA", "AbTp9!fok",
+        "AbTp9!fokçÇé"
+    };
+
+    // Cabeçalho do objeto, boolean e referência para a mensagem, com ou sem compressed oops
+    private static final double RESPONSE_BYTES = 32;
+
+    private final PasswordValidatorImpl passwordValidator = new PasswordValidatorImpl();
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9})
+    @DisplayName("Should check passwords without allocating")
+    void shouldCheckPasswordsWithoutAllocating(int index) {
+        String password = PASSWORDS[index];
+
+        double bytes = allocatedBytesPerCall(() -> passwordValidator.check(password));
+
+        assertThat(bytes).as("bytes alocados por check(\"%s\")", password).isLessThan(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 2, 7, 8})
+    @DisplayName("Should allocate only the response when validating")
+    void shouldAllocateOnlyResponseWhenValidating(int index) {
+        String password = PASSWORDS[index];
+
+        double bytes = allocatedBytesPerCall(() -> passwordValidator.validate(password));
+
+        assertThat(bytes).as("bytes alocados por validate(\"%s\")", password).isLessThanOrEqualTo(RESPONSE_BYTES);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 8})
+    @DisplayName("Should validate within the steady-state latency budget")
+    void shouldValidateWithinSteadyStateLatencyBudget(int index) {
+        String password = PASSWORDS[index];
+
+        double checkNanos = nanosPerCall(() -> passwordValidator.check(password));
+        double validateNanos = nanosPerCall(() -> passwordValidator.validate(password));
+
+        assertThat(checkNanos).as("ns por check(\"%s\")", password).isLessThan(latencyBound(1_000));
+        assertThat(validateNanos).as("ns por validate(\"%s\")", password).isLessThan(latencyBound(1_000));
+    }
+}
@@ -0,0 +1,99 @@
+package com.desafio.itau.demo.validator;
+
+import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.UserContext;
+import com.desafio.itau.demo.model.ValidationOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o PasswordValidatorChain
+ */
+@DisplayName("Password Validator Chain Tests")
+class PasswordValidatorChainTest {
+    
+    private PasswordValidatorChain passwordValidator;
+    
+    @BeforeEach
+    void setUp() {
+        BannedSubstringRule bannedSubstringRule = BannedSubstringRule.withDefaultTerms();
+        passwordValidator = new PasswordValidatorChain(new PasswordValidatorImpl(),
+            List.of(bannedSubstringRule, new UserContextSimilarityRule(2, 3)));
+    }
+    
+    @Test
+    @DisplayName("Should return valid for correct password")
+    void shouldReturnValidForCorrectPassword() {
+        PasswordValidationResponse response = passwordValidator.validate("AbTp9!fok");
+        
+        assertThat(response.isValid()).isTrue();
+        assertThat(response.getCode()).isEqualTo(ValidationOutcome.VALID.getCode());
+        assertThat(response.getMessage()).isEqualTo("Senha válida");
+    }
+    
+    @Test
+    @DisplayName("Should report basic rule failures before additional rules")
+    void shouldReportBasicRuleFailuresBeforeAdditionalRules() {
+        PasswordValidationResponse response = passwordValidator.validate("qwerty");
+        
+        assertThat(response.isValid()).isFalse();
+        assertThat(response.getCode()).isEqualTo(ValidationOutcome.TOO_SHORT.getCode());
+        assertThat(response.getMessage()).isEqualTo("Senha deve ter pelo menos 9 caracteres");
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"QwErTy1!2", "ZxCvBnM1!", "Xy1234!Ab", "ItAu9!xyZ", "pASsWOrd1!"})
+    @DisplayName("Should return invalid for passwords with banned substrings")
+    void shouldReturnInvalidForPasswordsWithBannedSubstrings(String password) {
+        PasswordValidationResponse response = passwordValidator.validate(password);
+        
+        assertThat(response.isValid()).isFalse();
+        assertThat(response.getCode()).isEqualTo(BannedSubstringRule.FAILURE_CODE);
+        assertThat(response.getMessage()).isEqualTo("Senha não pode conter termos proibidos");
+    }
+    
+    @Test
+    @DisplayName("Should apply the API rules with the default chain")
+    void shouldApplyTheApiRulesWithTheDefaultChain() {
+        // Given
+        PasswordValidatorChain defaultChain = PasswordValidatorChain.withDefaultRules();
+        UserContext context = new UserContext("joao.silva", null, "João da Silva", "1990-05-17");
+        
+        // When / Then
+        assertThat(defaultChain.validate("AbTp9!fok").isValid()).isTrue();
+        assertThat(defaultChain.validate("ItAu9!xyZ").getCode()).isEqualTo(BannedSubstringRule.FAILURE_CODE);
+        assertThat(defaultChain.validate("J0@oSilv4#", context).getCode())
+            .isEqualTo(UserContextSimilarityRule.FAILURE_CODE);
+    }
+    
+    @Test
+    @DisplayName("Should reject passwords similar to the user context")
+    void shouldRejectPasswordsSimilarToTheUserContext() {
+        // Given
+        UserContext context = new UserContext("joao.silva", null, "João da Silva", "1990-05-17");
+        
+        // When
+        PasswordValidationResponse response = passwordValidator.validate("J0@oSilv4#", context);
+        
+        // Then
+        assertThat(response.isValid()).isFalse();
+        assertThat(response.getCode()).isEqualTo(UserContextSimilarityRule.FAILURE_CODE);
+        assertThat(response.getMessage()).isEqualTo("Senha não pode ser parecida com os dados do usuário");
+        assertThat(passwordValidator.validate("J0@oSilv4#").isValid()).isTrue();
+    }
+    
+    @Test
+    @DisplayName("Should accept passwords unrelated to the user context")
+    void shouldAcceptPasswordsUnrelatedToTheUserContext() {
+        UserContext context = new UserContext("joao.silva", "joao.silva@exemplo.com", "João da Silva", "1990-05-17");
+        
+        assertThat(passwordValidator.validate("AbTp9!fok", context).isValid()).isTrue();
+    }
+}
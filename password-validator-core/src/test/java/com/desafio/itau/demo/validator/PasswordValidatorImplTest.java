@@ -1,12 +1,15 @@
 package com.desafio.itau.demo.validator;
 
 import com.desafio.itau.demo.model.PasswordValidationResponse;
+import com.desafio.itau.demo.model.ValidationOutcome;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -211,4 +214,83 @@ class PasswordValidatorImplTest {
         assertThat(invalidResponse.isValid()).isFalse();
         assertThat(invalidResponse.getMessage()).isEqualTo("Senha deve conter pelo menos 1 letra maiúscula");
     }
-} 
\ No newline at end of file
+    
+    @Test
+    @DisplayName("Should return invalid for password with repeated non-ASCII characters")
+    void shouldReturnInvalidForPasswordWithRepeatedNonAsciiCharacters() {
+        assertThat(passwordValidator.check("AbTp9!fokçÇç")).isEqualTo(ValidationOutcome.REPEATED_CHARACTERS);
+        assertThat(passwordValidator.check("AbTp9!fokçÇé")).isEqualTo(ValidationOutcome.VALID);
+    }
+    
+    @Test
+    @DisplayName("Should check long non-ASCII passwords in linear time")
+    void shouldCheckLongNonAsciiPasswordsInLinearTime() {
+        // Given
+        StringBuilder distinct = new StringBuilder("AbTp9!fok");
+        for (char ch = 0x100; ch < Character.MIN_SURROGATE; ch++) {
+            if (!Character.isWhitespace(ch)) {
+                distinct.append(ch);
+            }
+        }
+        StringBuilder repeated = new StringBuilder(distinct).append((char) 0x100);
+        
+        // When
+        long start = System.nanoTime();
+        ValidationOutcome distinctOutcome = passwordValidator.check(distinct);
+        ValidationOutcome repeatedOutcome = passwordValidator.check(repeated);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        // Then
+        assertThat(distinctOutcome).isEqualTo(ValidationOutcome.VALID);
+        assertThat(repeatedOutcome).isEqualTo(ValidationOutcome.REPEATED_CHARACTERS);
+        assertThat(elapsedMillis).isLessThan(1000);
+    }
+    
+    @Test
+    @DisplayName("Should check any CharSequence with the same outcome as validate")
+    void shouldCheckAnyCharSequenceWithSameOutcomeAsValidate() {
+        String[] passwords = {"", "   ", "aa", "AbTp9 fok", "Abcdefgh!", "ABCDEFGH1!",
+            "abcdefgh1!", "Abcdefgh1", "AbTp9!foA", "AbTp9!fok"};
+        
+        for (String password : passwords) {
+            ValidationOutcome outcome = passwordValidator.check(new StringBuilder(password));
+            PasswordValidationResponse response = passwordValidator.validate(password);
+            
+            assertThat(outcome.toResponse()).isEqualTo(response);
+        }
+    }
+    
+    @Test
+    @DisplayName("Should expose a distinct numeric code for each outcome")
+    void shouldExposeDistinctNumericCodeForEachOutcome() {
+        assertThat(ValidationOutcome.VALID.getCode()).isZero();
+        assertThat(ValidationOutcome.values())
+            .extracting(ValidationOutcome::getCode)
+            .doesNotHaveDuplicates();
+    }
+    
+    @Test
+    @DisplayName("Should apply a configured minimum length")
+    void shouldApplyConfiguredMinimumLength() {
+        PasswordValidatorImpl stricterValidator = new PasswordValidatorImpl(12);
+        
+        assertThat(stricterValidator.check("AbTp9!fok")).isEqualTo(ValidationOutcome.TOO_SHORT);
+        assertThat(stricterValidator.check("AbTp9!fokXYZ")).isEqualTo(ValidationOutcome.VALID);
+        assertThat(passwordValidator.check("AbTp9!fok")).isEqualTo(ValidationOutcome.VALID);
+    }
+    
+    @Test
+    @DisplayName("Should cite the configured minimum length in the too-short message")
+    void shouldCiteTheConfiguredMinimumLengthInTheTooShortMessage() {
+        PasswordValidatorImpl stricterValidator = new PasswordValidatorImpl(12);
+        PasswordValidatorChain stricterChain = new PasswordValidatorChain(stricterValidator, List.of());
+        
+        PasswordValidationResponse response = stricterValidator.validate("AbTp9!fok");
+        
+        assertThat(response.getCode()).isEqualTo(ValidationOutcome.TOO_SHORT.getCode());
+        assertThat(response.getMessage()).isEqualTo("Senha deve ter pelo menos 12 caracteres");
+        assertThat(stricterChain.validate("AbTp9!fok")).isEqualTo(response);
+        assertThat(passwordValidator.validate("aa").getMessage())
+            .isEqualTo("Senha deve ter pelo menos 9 caracteres");
+    }
+}
@@ -0,0 +1,95 @@
+package com.desafio.itau.demo.validator;
+
+import com.desafio.itau.demo.model.UserContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para a UserContextSimilarityRule
+ */
+@DisplayName("User Context Similarity Rule Tests")
+class UserContextSimilarityRuleTest {
+
+    private static final UserContext CONTEXT =
+        new UserContext("joao.silva", "jsilva.dev@exemplo.com", "João da Silva", "1990-05-17");
+
+    private final UserContextSimilarityRule rule = new UserContextSimilarityRule(2, 3);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Xy!JOAO#7b", "J0@oK#x2B", "kS1lv4!xZ", "Jsilvadev!", "Ab!1990xY", "Q!17051990", "Zk#170590"})
+    @DisplayName("Should reject passwords containing user data despite case, accents and leet")
+    void shouldRejectPasswordsContainingUserData(String password) {
+        assertThat(rule.isSatisfiedBy(password, CONTEXT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject passwords within the edit distance of user data")
+    void shouldRejectPasswordsWithinTheEditDistanceOfUserData() {
+        // Given - "jaosilvz" está a 2 edições de "joaosilva"
+        UserContext context = new UserContext("joaosilva", null, null, null);
+
+        // When / Then
+        assertThat(rule.isSatisfiedBy("Jaosilvz", context)).isFalse();
+        assertThat(rule.isSatisfiedBy("Jaxsxlvz", context)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"AbTp9!fok", "Mx#4kPq2z", "Rt!8vWn2y"})
+    @DisplayName("Should accept passwords unrelated to user data")
+    void shouldAcceptPasswordsUnrelatedToUserData(String password) {
+        assertThat(rule.isSatisfiedBy(password, CONTEXT)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should accept any password without user context")
+    void shouldAcceptAnyPasswordWithoutUserContext() {
+        assertThat(rule.isSatisfiedBy("JoaoSilva!1")).isTrue();
+        assertThat(rule.isSatisfiedBy("JoaoSilva!1", null)).isTrue();
+        assertThat(rule.isSatisfiedBy("JoaoSilva!1", new UserContext())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should ignore tokens shorter than the minimum length")
+    void shouldIgnoreTokensShorterThanTheMinimumLength() {
+        // Given - "da" e "li" ficam abaixo de 3 símbolos
+        UserContext context = new UserContext("li", null, "Ana da Li", null);
+
+        // When / Then
+        assertThat(rule.isSatisfiedBy("Xda!Li9kQ", context)).isTrue();
+        assertThat(rule.isSatisfiedBy("Xana!9kQw", context)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should derive normalized words, joined fields and birth date combinations")
+    void shouldDeriveNormalizedWordsJoinedFieldsAndBirthDateCombinations() {
+        // Given
+        List<String> tokens = new ArrayList<>();
+
+        // When
+        boolean stopped = rule.forEachToken(CONTEXT, (token, length) -> {
+            tokens.add(text(token, length));
+            return false;
+        });
+
+        // Then - "l", "1" e "!" viram "i"; "9" vira "g"; "0" vira "o"; "5" vira "s"; "7" vira "t"
+        assertThat(stopped).isFalse();
+        assertThat(tokens).containsOnly("joao", "siiva", "joaosiiva", "jsiiva", "dev", "jsiivadev", "joaodasiiva",
+                "iggo", "itosiggo", "iggoosit", "ositiggo", "itosgo");
+    }
+
+    private static String text(byte[] symbols, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            byte symbol = symbols[i];
+            text.append(symbol < 26 ? (char) ('a' + symbol) : (char) ('0' + symbol - 26));
+        }
+        return text.toString();
+    }
+}